@@ -0,0 +1,68 @@
+package com.sparta.doing.jwt;
+
+import com.sparta.doing.security.AccessTokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나의 액세스 토큰 인증 비용 비교
+ * legacy: 이전 JwtFilter 경로 (parser를 매번 만들고 validateToken + getAuthentication으로 두 번 검증/파싱)
+ * singleParse: 재사용 parser로 한 번만 검증/파싱 (캐시 미스 때의 비용)
+ * cached: 같은 토큰의 두 번째 이후 요청 (SHA-256 다이제스트 + 캐시 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenVerificationBenchmark {
+    private static final String SECRET = Encoders.BASE64.encode(
+            "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private TokenProvider tokenProvider;
+    private Key key;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider(SECRET, 3600, 7200, new AccessTokenDenylist(3600, 10_000, 0.01));
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.createTokenDto(authentication, 1L).getAccessToken();
+        // 캐시 적중 경로를 위해 한 번 인증해 둔다.
+        tokenProvider.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new UsernamePasswordAuthenticationToken(claims.get("uid").toString(), accessToken, authorities);
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        return tokenProvider.verify(accessToken).toAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cached() {
+        return tokenProvider.authenticate(accessToken);
+    }
+}
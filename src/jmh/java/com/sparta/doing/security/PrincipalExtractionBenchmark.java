@@ -0,0 +1,73 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.util.SecurityUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 검증된 클레임에서 Authentication을 만들고 user id를 읽는 비용 (요청당 할당량 비교)
+ * ./gradlew jmh 의 gc 프로파일러(-prof gc) 결과에서 gc.alloc.rate.norm(B/op)을 비교한다.
+ * legacy: split + SimpleGrantedAuthority + CustomUserDetails(TreeSet 정렬) + Long.parseLong
+ * fast: 미리 만든 권한 집합 + JwtPrincipal(long id)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrincipalExtractionBenchmark {
+    private static final String AUTHORITY_CLAIM = "ROLE_USER";
+    private static final String ACCESS_TOKEN = "token";
+
+    private long userId = 1_234_567_890_123L;
+    private Authentication legacyAuthentication;
+    private Authentication fastAuthentication;
+
+    @Setup
+    public void setUp() {
+        legacyAuthentication = legacyAuthenticate();
+        fastAuthentication = fastAuthenticate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication legacyAuthenticate() {
+        Collection<? extends GrantedAuthority> authorities = Arrays.stream(AUTHORITY_CLAIM.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        CustomUserDetails principal = new CustomUserDetails(
+                String.valueOf(userId), "", String.valueOf(userId), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, ACCESS_TOKEN, authorities);
+    }
+
+    @Benchmark
+    public Authentication fastAuthenticate() {
+        JwtPrincipal principal = JwtPrincipal.of(userId, GrantedAuthorities.fromClaim(AUTHORITY_CLAIM));
+        return new UsernamePasswordAuthenticationToken(principal, ACCESS_TOKEN, principal.getAuthorities());
+    }
+
+    @Benchmark
+    public long legacyReadUserId() {
+        SecurityContextHolder.getContext().setAuthentication(legacyAuthentication);
+        return Long.parseLong(((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .getUsername());
+    }
+
+    @Benchmark
+    public long fastReadUserId() {
+        SecurityContextHolder.getContext().setAuthentication(fastAuthentication);
+        return SecurityUtil.getCurrentUserIdByLong();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.doing.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * id 생성 처리량 (초당 발급 수)
+ * 한 생성기를 여러 스레드가 함께 쓸 때 CAS 경합으로 얼마나 느려지는지 비교한다.
+ * 노드당 밀리초마다 256개로 제한되므로 초당 약 25만 개 이상에서는 다음 밀리초를 빌려 쓰게 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public long nextIdSingleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long nextIdEightThreads() {
+        return generator.nextId();
+    }
+}
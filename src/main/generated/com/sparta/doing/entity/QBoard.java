@@ -39,12 +39,14 @@ public class QBoard extends EntityPathBase<Board> {
     public final NumberPath<Integer> countBoardVisit = createNumber("countBoardVisit", Integer.class);
 
     //inherited
-    public final StringPath createdAt = _super.createdAt;
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final SetPath<BoardHashtag, QBoardHashtag> hashtags = this.<BoardHashtag, QBoardHashtag>createSet("hashtags", BoardHashtag.class, QBoardHashtag.class, PathInits.DIRECT2);
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     //inherited
-    public final StringPath modifiedAt = _super.modifiedAt;
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
 
     public final NumberPath<Integer> postCount = createNumber("postCount", Integer.class);
 
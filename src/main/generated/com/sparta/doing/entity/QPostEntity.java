@@ -29,12 +29,12 @@ public class QPostEntity extends EntityPathBase<PostEntity> {
     public final StringPath content = createString("content");
 
     //inherited
-    public final StringPath createdAt = _super.createdAt;
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     //inherited
-    public final StringPath modifiedAt = _super.modifiedAt;
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
 
     public final QUserEntity userEntity;
 
@@ -22,12 +22,12 @@ public class QRefreshToken extends EntityPathBase<RefreshToken> {
     public final QTimeStamp _super = new QTimeStamp(this);
 
     //inherited
-    public final StringPath createdAt = _super.createdAt;
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
     public final NumberPath<Long> key = createNumber("key", Long.class);
 
     //inherited
-    public final StringPath modifiedAt = _super.modifiedAt;
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
 
     public final StringPath value = createString("value");
 
@@ -19,9 +19,9 @@ public class QTimeStamp extends EntityPathBase<TimeStamp> {
 
     public static final QTimeStamp timeStamp = new QTimeStamp("timeStamp");
 
-    public final StringPath createdAt = createString("createdAt");
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
 
-    public final StringPath modifiedAt = createString("modifiedAt");
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = createDateTime("modifiedAt", java.time.LocalDateTime.class);
 
     public QTimeStamp(String variable) {
         super(TimeStamp.class, forVariable(variable));
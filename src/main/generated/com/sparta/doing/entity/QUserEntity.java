@@ -29,7 +29,7 @@ public class QUserEntity extends EntityPathBase<UserEntity> {
     public final ListPath<Board, QBoard> boardList = this.<Board, QBoard>createList("boardList", Board.class, QBoard.class, PathInits.DIRECT2);
 
     //inherited
-    public final StringPath createdAt = _super.createdAt;
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
     public final StringPath description = createString("description");
 
@@ -38,7 +38,7 @@ public class QUserEntity extends EntityPathBase<UserEntity> {
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     //inherited
-    public final StringPath modifiedAt = _super.modifiedAt;
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
 
     public final StringPath nickname = createString("nickname");
 
@@ -5,6 +5,8 @@ import com.sparta.doing.jwt.JwtAccessDeniedHandler;
 import com.sparta.doing.jwt.JwtAuthenticationEntryPoint;
 import com.sparta.doing.jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,11 +21,17 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(securedEnabled = true, prePostEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig /*implements WebMvcConfigurer*/ {
+    // 해시 1번이 수 초 이상 걸리지 않도록 자동 조정 상한
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+
     private final TokenProvider tokenProvider;
 
     private final CorsFilter corsFilter;
@@ -58,9 +66,38 @@ public class SecurityConfig /*implements WebMvcConfigurer*/ {
     //     return source;
     // }
 
+    /**
+     * BCrypt cost(strength)는 설정값을 쓰고, target-hash-millis가 있으면 서버 시작 시
+     * 해시 1번이 목표 시간을 넘지 않는 가장 큰 cost로 맞춘다. (설정값보다 낮추지는 않는다.)
+     * 로그인에 성공했는데 저장된 해시의 cost가 이보다 낮으면 CustomUserDetailsService.updatePassword로 다시 해시한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.target-hash-millis:0}") long targetHashMillis) {
+        int tunedStrength = targetHashMillis > 0 ? tuneBCryptStrength(strength, targetHashMillis) : strength;
+        log.info("BCrypt strength: {}", tunedStrength);
+        return new BCryptPasswordEncoder(tunedStrength);
+    }
+
+    // cost가 1 오를 때마다 해시 시간은 약 2배가 되므로 한 번 잰 시간으로 다음 cost를 추정한다.
+    private static int tuneBCryptStrength(int minStrength, long targetHashMillis) {
+        int strength = minStrength;
+        long elapsedMillis = measureHashMillis(strength);
+        while (strength < MAX_BCRYPT_STRENGTH && elapsedMillis * 2 <= targetHashMillis) {
+            strength++;
+            elapsedMillis = measureHashMillis(strength);
+        }
+        return strength;
+    }
+
+    private static long measureHashMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // 첫 호출은 JIT 전이라 느리므로 한 번 버린다.
+        encoder.encode("bcrypt-calibration");
+        long startedAt = System.nanoTime();
+        encoder.encode("bcrypt-calibration");
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
     }
 
     @Bean
@@ -98,15 +135,16 @@ public class SecurityConfig /*implements WebMvcConfigurer*/ {
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 
+                // 로그아웃은 UserController(GET /users/logout)에서 처리한다. (액세스 토큰 폐기, 리프레쉬 토큰 삭제)
+                // csrf를 끈 상태에서는 기본 LogoutFilter가 GET 요청도 가로채서 컨트롤러까지 오지 않는다.
                 .and()
-                .logout()
-                .logoutUrl("/users/logout")
+                .logout().disable()
                 // 로그인, 회원가입 등 토큰이 없을 때 요청이 들어오는 API는 permitAll
-                .and()
                 .authorizeRequests()
 
                 .antMatchers("/users/auth/renew").hasAnyAuthority(Authority.ROLE_USER.name())
                 .antMatchers("/users/mypage").hasAnyAuthority(Authority.ROLE_USER.name())
+                .antMatchers("/users/logout").hasAnyAuthority(Authority.ROLE_USER.name())
                 .antMatchers("/users/**").permitAll()
                 .antMatchers("/").permitAll()
 
@@ -1,20 +1,47 @@
 package com.sparta.doing.controller;
 
+import com.querydsl.core.types.Predicate;
 import com.sparta.doing.controller.requestdto.BoardRequestDto;
+import com.sparta.doing.controller.responsedto.BoardCursorResponseDto;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
 import com.sparta.doing.controller.responsedto.BoardResponseDto;
+import com.sparta.doing.controller.responsedto.BoardSliceResponseDto;
+import com.sparta.doing.controller.responsedto.BulkImportResponseDto;
+import com.sparta.doing.controller.responsedto.SuggestionResponseDto;
+import com.sparta.doing.controller.responsedto.TrendingBoardResponseDto;
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.entity.constant.ExportFormat;
+import com.sparta.doing.entity.constant.HashtagMatch;
 import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.service.BoardBulkImportService;
+import com.sparta.doing.service.BoardExportService;
 import com.sparta.doing.service.BoardService;
+import com.sparta.doing.service.BoardSuggestService;
 import com.sparta.doing.service.PaginationService;
+import com.sparta.doing.service.TrendingBoardService;
 import com.sparta.doing.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -23,18 +50,113 @@ import java.util.List;
 public class BoardController {
     private final BoardService boardService;
     private final PaginationService paginationService;
+    private final TrendingBoardService trendingBoardService;
+    private final BoardBulkImportService boardBulkImportService;
+    private final BoardSuggestService boardSuggestService;
+    private final BoardExportService boardExportService;
 
     // (기본 기능)게시판 전체 조회
     // (검색 기능)게시판 검색 및 조회
     // (페이지네이션 기능)페이지네이션
+    // (기간 조회) createdFrom 이상 createdTo 미만, ISO-8601 (예: 2022-08-01T00:00:00)
+    // If-None-Match가 현재 목록 ETag와 같으면 조회하지 않고 304 반환
     @GetMapping
-    public Page<BoardResponseDto> getpaginateBoards(@RequestParam(required = false) SearchType searchType,
-                                                    @RequestParam(required = false) String searchValue,
-                                                    @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BoardResponseDto> boards = boardService.searchBoards(searchType, searchValue, pageable).map(BoardResponseDto::from);
+    public ResponseEntity<Page<BoardListResponseDto>> getpaginateBoards(@RequestParam(required = false) SearchType searchType,
+                                                                        @RequestParam(required = false) String searchValue,
+                                                                        @RequestParam(defaultValue = "ANY") HashtagMatch hashtagMatch,
+                                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                                        @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                        ServletWebRequest webRequest) {
+        String eTag = boardService.getBoardListETag(webRequest.getRequest().getQueryString());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<BoardListResponseDto> boards = boardService.searchBoards(searchType, searchValue, hashtagMatch, createdFrom, createdTo, pageable);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), boards.getTotalPages());
 
-        return boards;
+        return ResponseEntity.ok().eTag(eTag).body(boards);
+    }
+
+    // (검색 기능) 여러 조건 조합 검색
+    // boardTitle, boardContent, boardHashtag, authorName: 부분 일치(대소문자 무시)
+    // createdAt: 하나면 그 이후, 두 개면 기간 (예: createdAt=2022-08-01T00:00:00&createdAt=2022-08-08T00:00:00)
+    @GetMapping("/search")
+    public Page<BoardListResponseDto> searchBoards(@QuerydslPredicate(root = Board.class, bindings = BoardRepository.class) Predicate predicate,
+                                                   @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return boardService.searchBoardsByPredicate(predicate, pageable);
+    }
+
+    // (페이지네이션 기능) COUNT 쿼리 없는 Slice 모드
+    // 전체 개수는 캐시된 근사값을 사용해서 페이지네이션 바를 만든다.
+    @GetMapping("/slice")
+    public BoardSliceResponseDto getSliceBoards(@RequestParam(required = false) SearchType searchType,
+                                                @RequestParam(required = false) String searchValue,
+                                                @RequestParam(defaultValue = "ANY") HashtagMatch hashtagMatch,
+                                                @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Slice<BoardListResponseDto> boards = boardService.searchBoardSlice(searchType, searchValue, hashtagMatch, pageable);
+        long approximateTotal = boardService.countBoardsApproximately(searchType, searchValue, hashtagMatch);
+        int approximateTotalPages = (int) Math.ceil((double) approximateTotal / pageable.getPageSize());
+        // 근사값이 실제보다 작아도 다음 페이지가 있으면 바에 보이도록 보정
+        if (boards.hasNext()) {
+            approximateTotalPages = Math.max(approximateTotalPages, pageable.getPageNumber() + 2);
+        }
+        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), approximateTotalPages);
+
+        return BoardSliceResponseDto.builder()
+                .boards(boards.getContent())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(boards.hasNext())
+                .approximateTotalElements(approximateTotal)
+                .approximateTotalPages(approximateTotalPages)
+                .barNumbers(barNumbers)
+                .build();
+    }
+
+    // (무한 스크롤 기능) (createdAt, board_id) 기준 커서 페이지네이션
+    // 응답의 next/prev 커서를 그대로 cursor 파라미터로 넘기면 다음/이전 페이지를 조회한다.
+    @GetMapping("/scroll")
+    public BoardCursorResponseDto getScrollBoards(@RequestParam(required = false) SearchType searchType,
+                                                  @RequestParam(required = false) String searchValue,
+                                                  @RequestParam(defaultValue = "ANY") HashtagMatch hashtagMatch,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "8") int size) {
+        return boardService.scrollBoards(searchType, searchValue, hashtagMatch, createdFrom, createdTo, cursor, size);
+    }
+
+    // (내보내기 기능) 검색 조건에 맞는 게시판 전체를 NDJSON 또는 CSV로 스트리밍
+    // 페이지를 나누지 않고 DB 커서로 읽으면서 바로 응답에 쓴다.
+    @GetMapping("/export")
+    public void exportBoards(@RequestParam(required = false) SearchType searchType,
+                             @RequestParam(required = false) String searchValue,
+                             @RequestParam(defaultValue = "ANY") HashtagMatch hashtagMatch,
+                             @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                             HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("boards." + format.getExtension())
+                .build()
+                .toString());
+        this.boardExportService.exportBoards(searchType, searchValue, hashtagMatch, format, response.getOutputStream());
+    }
+
+    // (자동완성 기능) 해시태그/제목 단어 접두어 자동완성
+    // DB를 조회하지 않고 메모리 트라이에서 게시판 수가 많은 순서로 반환한다.
+    @GetMapping("/suggest")
+    public List<SuggestionResponseDto> suggest(@RequestParam String prefix,
+                                               @RequestParam(defaultValue = "10") int size) {
+        return boardSuggestService.suggest(prefix, size);
+    }
+
+    // (인기 게시판 기능) 조회/좋아요/게시글 작성 기반 시간 감쇠 점수 상위 게시판
+    // DB를 조회하지 않고 메모리의 top-K에서 바로 반환한다.
+    @GetMapping("/trending")
+    public List<TrendingBoardResponseDto> getTrendingBoards(@RequestParam(defaultValue = "20") int size) {
+        return trendingBoardService.getTrending(size);
     }
 
     // 1개 게시판 내용 작성 후 BoardController의 @GetMapping으로 이동한 다음, index.html로 이동한다.
@@ -44,11 +166,26 @@ public class BoardController {
         return this.boardService.createBoard(boardRequestDto, userId);
     }
 
+    // 게시판 일괄 등록 (한 줄에 게시판 JSON 하나인 NDJSON)
+    // 본문을 한 줄씩 읽으면서 청크 단위로 JDBC batch INSERT 한다.
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "application/json"})
+    public BulkImportResponseDto bulkImportBoards(HttpServletRequest request) throws IOException {
+        var userId = SecurityUtil.getCurrentUserIdByLong();
+        return this.boardBulkImportService.importBoards(request.getInputStream(), userId);
+    }
+
     // 1개 게시판 클릭 시 해당 게시판의 내용물과 게시글까지 전부 볼 수 있는 boards.html로 이동한다.
     // 1개 게시판 클릭 시 해당 게시판의 조회수 +1씩 증가.
+    // If-None-Match가 현재 게시판 ETag와 같으면 버전 컬럼만 조회하고 304 반환 (조회수는 증가)
     @GetMapping("/{boardId}")
-    public BoardResponseDto getOneBoard(@PathVariable(name = "boardId") Long boardId) {
-        return this.boardService.getOneBoardWithComments(boardId);
+    public ResponseEntity<BoardResponseDto> getOneBoard(@PathVariable(name = "boardId") Long boardId,
+                                                        ServletWebRequest webRequest) {
+        String eTag = this.boardService.getBoardETag(boardId);
+        if (webRequest.checkNotModified(eTag)) {
+            this.boardService.recordVisit(boardId, null);
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(this.boardService.getOneBoardWithComments(boardId));
     }
 
     // 1개 게시판 내용 수정 후 BoardController의 @GetMapping("/{boardId}")로 이동한 다음, boards.html로 이동한다.
@@ -74,14 +211,8 @@ public class BoardController {
     // 게시판 좋아요 클릭 후 BoardController의 @GetMapping으로 이동한 다음, index.html로 이동한다.
     // 1개 게시판 내용 수정 Url로 이동 시 인증되지 않은 유저는 login.html로 이동한다.
     @PostMapping("/{boardId}/like")
-    public String boardLike(@PathVariable(name = "boardId") Long boardId,
-                            @AuthenticationPrincipal UserDetails userDetails) {
-        String userId = userDetails.getUsername();
-
-        if (userId.isEmpty()) {
-            return "login";
-        }
-
+    public String boardLike(@PathVariable(name = "boardId") Long boardId) {
+        var userId = SecurityUtil.getCurrentUserIdByLong();
         boardService.boardLike(boardId, userId);
         return "redirect:/boards";
     }
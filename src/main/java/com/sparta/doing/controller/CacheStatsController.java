@@ -0,0 +1,46 @@
+package com.sparta.doing.controller;
+
+import com.sparta.doing.jwt.TokenProvider;
+import com.sparta.doing.security.PasswordHashingExecutor;
+import com.sparta.doing.service.BoardCountCache;
+import com.sparta.doing.service.BoardDetailCache;
+import com.sparta.doing.service.BoardLikedUsersStore;
+import com.sparta.doing.service.BoardSearchCache;
+import com.sparta.doing.util.BoundedCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@RequestMapping("/stats")
+@RestController
+public class CacheStatsController {
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchCache boardSearchCache;
+    private final BoardLikedUsersStore boardLikedUsersStore;
+    private final BoardCountCache boardCountCache;
+    private final TokenProvider tokenProvider;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // 캐시별 적중/실패/제거 횟수와 크기
+    @GetMapping("/caches")
+    public Map<String, BoundedCache.Stats> getCacheStats() {
+        Map<String, BoundedCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("boardDetail", boardDetailCache.stats());
+        stats.put("boardSearch", boardSearchCache.stats());
+        stats.put("boardLikedUsers", boardLikedUsersStore.stats());
+        stats.put("boardCount", boardCountCache.stats());
+        stats.put("verifiedToken", tokenProvider.verifiedTokenStats());
+        return stats;
+    }
+
+    // 비밀번호 해시 풀의 대기열 길이, 거절 횟수, 대기/실행 시간
+    @GetMapping("/password-hashing")
+    public PasswordHashingExecutor.Stats getPasswordHashingStats() {
+        return passwordHashingExecutor.stats();
+    }
+}
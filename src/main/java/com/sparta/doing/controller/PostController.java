@@ -2,6 +2,7 @@ package com.sparta.doing.controller;
 
 import com.sparta.doing.controller.requestdto.PostRequestDto;
 import com.sparta.doing.controller.responsedto.BoardResponseDto;
+import com.sparta.doing.controller.responsedto.PostCursorResponseDto;
 import com.sparta.doing.service.BoardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,4 +19,12 @@ public class PostController {
                                                        @RequestBody PostRequestDto postRequestDto) {
         return ResponseEntity.ok(boardService.createPost(boardId, postRequestDto));
     }
+
+    // 게시글 목록 조회. 응답의 next 값을 cursor 파라미터로 넘기면 다음 페이지를 조회한다.
+    @GetMapping
+    public ResponseEntity<PostCursorResponseDto> getPosts(@PathVariable Long boardId,
+                                                          @RequestParam(required = false) Long cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.getPosts(boardId, cursor, size));
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,10 +21,10 @@ import javax.validation.Valid;
 public class UserController {
     private final UserService userService;
 
-    // 회원가입 요청
+    // 회원가입 요청 (비밀번호 해시가 끝날 때까지 요청 스레드를 반환하고 비동기로 응답)
     @PostMapping("/signup")
-    public ResponseEntity<UserResponseDto> signup(@RequestBody @Valid SignUpDto signUpDto) {
-        return ResponseEntity.ok(userService.signup(signUpDto));
+    public CompletableFuture<ResponseEntity<UserResponseDto>> signup(@RequestBody @Valid SignUpDto signUpDto) {
+        return userService.signup(signUpDto).thenApply(ResponseEntity::ok);
     }
 
 //    이광훈 팀원의 코드입니다. 참고하시면 좋겠습니다.
@@ -46,10 +47,10 @@ public class UserController {
         return "signup";
     }
 
-    // 로그인 요청
+    // 로그인 요청 (비밀번호 검증이 끝날 때까지 요청 스레드를 반환하고 비동기로 응답)
     @PostMapping("/login")
-    public ResponseEntity<TokenDto> login(@RequestBody @Valid LoginDto loginDto) {
-        return ResponseEntity.ok(userService.login(loginDto));
+    public CompletableFuture<ResponseEntity<TokenDto>> login(@RequestBody @Valid LoginDto loginDto) {
+        return userService.login(loginDto).thenApply(ResponseEntity::ok);
     }
 
 //    이광훈 팀원의 코드입니다. 참고하시면 좋겠습니다.
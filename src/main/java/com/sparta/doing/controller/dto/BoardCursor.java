@@ -0,0 +1,73 @@
+package com.sparta.doing.controller.dto;
+
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
+import com.sparta.doing.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, board_id) 기준 키셋 페이지네이션 커서
+ * 클라이언트에는 "방향|createdAt|board_id"를 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달한다.
+ * createdAt은 ISO-8601(LocalDateTime.toString) 형식이라 밀리초 이하까지 그대로 보존된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardCursor {
+    private static final String DELIMITER = "|";
+
+    private final Direction direction;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    public static BoardCursor next(BoardListResponseDto board) {
+        return new BoardCursor(Direction.NEXT, board.getCreatedAt(), board.getId());
+    }
+
+    public static BoardCursor prev(BoardListResponseDto board) {
+        return new BoardCursor(Direction.PREV, board.getCreatedAt(), board.getId());
+    }
+
+    public boolean isPrev() {
+        return direction == Direction.PREV;
+    }
+
+    public String encode() {
+        String raw = direction.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // createdAt에는 구분자가 들어가지 않으므로 앞뒤로 잘라낸다.
+            int first = raw.indexOf(DELIMITER);
+            int last = raw.lastIndexOf(DELIMITER);
+            if (first < 0 || first == last) {
+                throw new InvalidCursorException("잘못된 커서입니다: " + cursor);
+            }
+            return new BoardCursor(
+                    Direction.valueOf(raw.substring(0, first)),
+                    parseCreatedAt(raw.substring(first + 1, last)),
+                    Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩, Direction, board_id 파싱 실패 모두 IllegalArgumentException 계열
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    // 이전 형식("yyyy-MM-dd HH:mm:ss")으로 발급된 커서도 읽을 수 있도록 공백을 'T'로 바꿔서 파싱
+    private static LocalDateTime parseCreatedAt(String createdAt) {
+        return LocalDateTime.parse(createdAt.replace(' ', 'T'));
+    }
+}
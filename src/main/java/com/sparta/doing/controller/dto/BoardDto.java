@@ -2,11 +2,10 @@ package com.sparta.doing.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.doing.entity.Board;
-import com.sparta.doing.entity.PostEntity;
 import com.sparta.doing.entity.UserEntity;
 import lombok.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Data
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -19,10 +18,9 @@ public class BoardDto {
     private String boardContent;
     private String boardHashtag;
     private int countBoardVisit;
-    private String createdAt;
-    private String modifiedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
     private UserDto userDto;
-    private List<PostEntity> posts;
 
     // public static BoardDto of(String boardTitle, String authorName, String boardContent, String boardHashtag, int countBoardVisit, UserDto userDto) {
     //     return new BoardDto(null, boardTitle, authorName, boardContent, boardHashtag, countBoardVisit, null, null, userDto);
@@ -49,7 +47,6 @@ public class BoardDto {
         boardDto.setCreatedAt(board.getCreatedAt());
         boardDto.setModifiedAt(board.getModifiedAt());
         boardDto.setUserDto(UserDto.from(board.getUserEntity()));
-        boardDto.setPosts(board.getPosts());
 
         return boardDto;
     }
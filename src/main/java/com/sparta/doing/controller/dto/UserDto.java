@@ -5,6 +5,8 @@ import com.sparta.doing.entity.Authority;
 import com.sparta.doing.entity.UserEntity;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -17,14 +19,14 @@ public class UserDto {
     private String email;
     private String nickname;
     Authority authority;
-    private String createdAt;
-    private String modifiedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
 
     public static UserDto of(Long id, String username, String password, String email, String nickname, Authority authority) {
         return new UserDto(id, username, password, email, nickname, authority, null, null);
     }
 
-    public static UserDto of(Long id, String username, String password, String email, String nickname, Authority authority, String createdAt, String modifiedAt) {
+    public static UserDto of(Long id, String username, String password, String email, String nickname, Authority authority, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         return new UserDto(id, username, password, email, nickname, authority, createdAt, modifiedAt);
     }
 
@@ -0,0 +1,19 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardCursorResponseDto {
+    private List<BoardListResponseDto> boards;
+    // 다음(더 오래된) 페이지 커서, 마지막 페이지면 null
+    private String next;
+    // 이전(더 최신) 페이지 커서, 첫 페이지면 null
+    private String prev;
+}
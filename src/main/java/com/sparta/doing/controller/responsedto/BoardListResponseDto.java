@@ -0,0 +1,47 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록 화면용 DTO
+ * Querydsl Projections.constructor로 목록에 필요한 컬럼만 board + users 조인 1번으로 조회한다.
+ * (게시글, 게시판 내용은 목록에서 쓰지 않으므로 조회하지 않는다.)
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardListResponseDto {
+    private Long id;
+    private String boardTitle;
+    private String authorName;
+    private String boardHashtag;
+    private Integer countBoardVisit;
+    private Integer boardLikeCount;
+    private Integer postCount;
+    private LocalDateTime createdAt;
+    private Long userId;
+    private String nickname;
+    // 로그인한 유저가 좋아요 했는지 여부 (비로그인이면 null)
+    private Boolean likedByMe;
+
+    // Projections.constructor에서 사용하는 생성자. 파라미터 순서를 바꾸면 쿼리도 같이 바꿔야 한다.
+    public BoardListResponseDto(Long id, String boardTitle, String authorName, String boardHashtag,
+                                Integer countBoardVisit, Integer boardLikeCount, Integer postCount,
+                                LocalDateTime createdAt, Long userId, String nickname) {
+        this.id = id;
+        this.boardTitle = boardTitle;
+        this.authorName = authorName;
+        this.boardHashtag = boardHashtag;
+        this.countBoardVisit = countBoardVisit;
+        this.boardLikeCount = boardLikeCount;
+        this.postCount = postCount;
+        this.createdAt = createdAt;
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+}
@@ -3,13 +3,13 @@ package com.sparta.doing.controller.responsedto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.doing.controller.dto.BoardDto;
 import com.sparta.doing.entity.Board;
-import com.sparta.doing.entity.PostEntity;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -20,8 +20,14 @@ public class BoardResponseDto {
     private String boardContent;
     private String boardHashtag;
     private int countBoardVisit;
-    private String createdAt;
-    private List<PostEntity> posts;
+    private LocalDateTime createdAt;
+    private int postCount;
+    private int boardLikeCount;
+    // 로그인한 유저가 좋아요 했는지 여부 (비로그인이면 null)
+    private Boolean likedByMe;
+    // 게시글 첫 페이지와 다음 페이지 커서 (나머지는 GET /boards/{boardId}/posts?cursor=)
+    private List<PostResponseDto> posts;
+    private Long nextPostCursor;
 
     public static BoardResponseDto from(BoardDto boardDto) {
         if (boardDto == null) {
@@ -35,7 +41,6 @@ public class BoardResponseDto {
         boardResponseDto.setBoardHashtag(boardDto.getBoardHashtag());
         boardResponseDto.setCountBoardVisit(boardDto.getCountBoardVisit());
         boardResponseDto.setCreatedAt(boardDto.getCreatedAt());
-        boardResponseDto.setPosts(boardDto.getPosts());
 
         return boardResponseDto;
     }
@@ -48,7 +53,16 @@ public class BoardResponseDto {
                 .authorName(board.getAuthorName())
                 .boardHashtag(board.getBoardHashtag())
                 .countBoardVisit(board.getCountBoardVisit())
-                .posts(board.getPosts())
+                .createdAt(board.getCreatedAt())
+                .postCount(board.getPostCount())
+                .boardLikeCount(board.getBoardLikeCount())
                 .build();
     }
+
+    public static BoardResponseDto from(Board board, PostCursorResponseDto firstPosts) {
+        BoardResponseDto boardResponseDto = from(board);
+        boardResponseDto.setPosts(firstPosts.getPosts());
+        boardResponseDto.setNextPostCursor(firstPosts.getNext());
+        return boardResponseDto;
+    }
 }
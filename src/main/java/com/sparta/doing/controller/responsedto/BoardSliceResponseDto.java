@@ -0,0 +1,22 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardSliceResponseDto {
+    private List<BoardListResponseDto> boards;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    // 캐시된 개수 기반의 대략적인 전체 게시판 수/페이지 수
+    private long approximateTotalElements;
+    private int approximateTotalPages;
+    private List<Integer> barNumbers;
+}
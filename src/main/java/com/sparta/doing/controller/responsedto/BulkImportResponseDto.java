@@ -0,0 +1,20 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkImportResponseDto {
+    private long importedCount;
+    private long failedCount;
+    // 형식이 잘못되어 건너뛴 줄 번호 (최대 100개)
+    private List<Long> failedLines;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
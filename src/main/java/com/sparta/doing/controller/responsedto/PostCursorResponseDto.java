@@ -0,0 +1,17 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCursorResponseDto {
+    private List<PostResponseDto> posts;
+    // 다음 페이지 커서(마지막 post_id), 마지막 페이지면 null
+    private Long next;
+}
@@ -0,0 +1,26 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.doing.entity.PostEntity;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostResponseDto {
+    private Long id;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static PostResponseDto from(PostEntity postEntity) {
+        return PostResponseDto.builder()
+                .id(postEntity.getId())
+                .content(postEntity.getContent())
+                .createdAt(postEntity.getCreatedAt())
+                .build();
+    }
+}
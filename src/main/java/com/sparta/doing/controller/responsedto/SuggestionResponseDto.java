@@ -0,0 +1,18 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.doing.entity.constant.SearchType;
+import lombok.*;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class SuggestionResponseDto {
+    private String term;
+    // 이 term으로 검색할 때 쓸 searchType (HASHTAG 또는 TITLE)
+    private SearchType searchType;
+    // term이 들어간 게시판 수
+    private long frequency;
+}
@@ -0,0 +1,16 @@
+package com.sparta.doing.controller.responsedto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrendingBoardResponseDto {
+    private Long id;
+    private String boardTitle;
+    // 현재 시각 기준으로 감쇠된 인기 점수
+    private double score;
+}
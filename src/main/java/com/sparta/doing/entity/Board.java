@@ -2,11 +2,17 @@ package com.sparta.doing.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sparta.doing.controller.requestdto.BoardRequestDto;
+import com.sparta.doing.util.HashtagParser;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static lombok.AccessLevel.PROTECTED;
 
@@ -23,7 +29,8 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 public class Board extends TimeStamp {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
     @Column(name = "board_id")
     private Long id; // 게시판 Id
 
@@ -50,6 +57,7 @@ public class Board extends TimeStamp {
     private UserEntity userEntity;
 
     @JsonIgnore
+    @Builder.Default
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardLike> boardLikeList = new ArrayList<>();
 
@@ -57,13 +65,19 @@ public class Board extends TimeStamp {
     private int postCount; // 게시글 개수
 
     @JsonIgnore
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "board",
+    @Builder.Default
+    @BatchSize(size = 100)
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "board",
             cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostEntity> posts = new ArrayList<>();
 
-    public void visit() {
-        this.countBoardVisit += 1;
-    }
+    // boardHashtag를 파싱해서 정규화한 태그 (검색용)
+    @JsonIgnore
+    @ToString.Exclude
+    @Builder.Default
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "board",
+            cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<BoardHashtag> hashtags = new HashSet<>();
 
     private Board(UserEntity userEntity, String boardTitle, String boardContent, String boardHashtag) {
         this.userEntity = userEntity;
@@ -72,6 +86,9 @@ public class Board extends TimeStamp {
         this.boardHashtag = boardHashtag;
         this.countBoardVisit = 0;
         this.boardLikeCount = 0;
+        this.boardLikeList = new ArrayList<>();
+        this.posts = new ArrayList<>();
+        this.hashtags = new HashSet<>();
     }
 
     public static Board of(UserEntity userEntity, String boardTitle, String boardContent, String boardHashtag) {
@@ -87,9 +104,10 @@ public class Board extends TimeStamp {
         boardLikeList.add(boardLike);
     }
 
+    // posts는 LAZY이므로 size()로 세면 전체 게시글을 읽어온다. 개수는 직접 증가시킨다.
     public void mapToPost(PostEntity postEntity) {
         posts.add(postEntity);
-        postCount = posts.size();
+        postCount += 1;
         postEntity.setBoard(this);
     }
 
@@ -97,13 +115,19 @@ public class Board extends TimeStamp {
         this.boardTitle = boardDto.getBoardTitle();
         this.boardContent = boardDto.getBoardContent();
         this.boardHashtag = boardDto.getBoardHashtag();
+        updateHashtags();
     }
 
-    public void updateLikeCount() {
-        this.boardLikeCount = this.boardLikeList.size();
+    // boardHashtag 문자열 기준으로 해시태그 행을 추가/삭제
+    public void updateHashtags() {
+        Set<String> tags = HashtagParser.parse(this.boardHashtag);
+        hashtags.removeIf(hashtag -> !tags.contains(hashtag.getTag()));
+        Set<String> existingTags = hashtags.stream()
+                .map(BoardHashtag::getTag)
+                .collect(Collectors.toSet());
+        tags.stream()
+                .filter(tag -> !existingTags.contains(tag))
+                .forEach(tag -> hashtags.add(BoardHashtag.of(this, tag)));
     }
 
-    public void discountLike(BoardLike boardLike) {
-        this.boardLikeList.remove(boardLike);
-    }
 }
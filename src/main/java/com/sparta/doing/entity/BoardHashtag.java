@@ -0,0 +1,44 @@
+package com.sparta.doing.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+// 게시판 해시태그를 태그 1개당 1행으로 정규화한 테이블
+// (tag, board_id) 인덱스로 태그 검색 시 정확히 일치하는 행만 읽는다.
+@Getter
+@Table(name = "board_hashtag",
+        uniqueConstraints = @UniqueConstraint(
+                name = "UK_board_hashtag_board_tag", columnNames = {"board_id", "tag"}),
+        indexes = @Index(name = "IDX_board_hashtag_tag_board", columnList = "tag, board_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class BoardHashtag {
+    public static final int MAX_TAG_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
+    @Column(name = "board_hashtag_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false,
+            foreignKey = @ForeignKey(name = "FK_board_boardhashtag"))
+    private Board board;
+
+    @Column(nullable = false, length = MAX_TAG_LENGTH)
+    private String tag;
+
+    private BoardHashtag(Board board, String tag) {
+        this.board = board;
+        this.tag = tag;
+    }
+
+    public static BoardHashtag of(Board board, String tag) {
+        return new BoardHashtag(board, tag);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.doing.entity;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -8,11 +9,15 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_board_like_board_user", columnNames = {"board_id", "user_id"})
+})
 @Entity
 public class BoardLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,6 +28,14 @@ public class BoardLike {
     @JoinColumn(name = "board_id", foreignKey = @ForeignKey(name = "FK_board_boardlike"))
     private Board board;
 
+    // 양방향 컬렉션(board.boardLikeList 등)을 건드리지 않고 좋아요 행만 만든다.
+    public static BoardLike of(Board board, UserEntity userEntity) {
+        return BoardLike.builder()
+                .board(board)
+                .userEntity(userEntity)
+                .build();
+    }
+
     public void mapToUserEntity(UserEntity userEntity) {
         this.userEntity = userEntity;
         userEntity.mapToBoardLike(this);
@@ -7,19 +7,23 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "IDX_posts_board_post", columnList = "board_id, post_id")
+})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Getter
 public class PostEntity extends TimeStamp {
     @Id
     @Column(name = "post_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
     final Long id = null;
     @NotBlank
     final String content;
@@ -9,8 +9,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
+// 작성/수정 시각은 DB의 날짜 타입(TIMESTAMP) 컬럼으로 저장한다.
+// 정렬, 기간 조건이 문자열 비교가 아니라 인덱스 범위 탐색으로 처리되고,
+// "yyyy-MM-dd HH:mm:ss" 문자열로 바꾸는 일은 JSON 응답을 만들 때만 한다. (JacksonConfig)
 @Getter
 @ToString
 @MappedSuperclass
@@ -19,28 +21,23 @@ public abstract class TimeStamp {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     @CreatedDate
     @Column(nullable = false, updatable = false)
-    private String createdAt;
+    private LocalDateTime createdAt;
 
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     @LastModifiedDate
     @Column(nullable = false)
-    private String modifiedAt;
+    private LocalDateTime modifiedAt;
 
-    // 날짜 포맷 변경
     // 엔티티 insert 이전에 실행
     @PrePersist
     public void onPrePersist() {
-        this.createdAt =
-                LocalDateTime.now().format(
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        this.createdAt = LocalDateTime.now();
         this.modifiedAt = this.createdAt;
     }
 
     // 엔티티 update 이전에 실행
     @PreUpdate
     public void onPreUpdate() {
-        this.modifiedAt = LocalDateTime.now().format(
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        this.modifiedAt = LocalDateTime.now();
     }
 }
-
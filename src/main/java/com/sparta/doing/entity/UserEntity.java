@@ -8,6 +8,7 @@ import com.sun.istack.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.Assert;
 
@@ -25,7 +26,8 @@ import java.util.Objects;
 public class UserEntity extends TimeStamp {
     @Id
     @Column(name = "user_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
     Long id = null;
     @NotNull
     @Column(unique = true, length = 50)
@@ -102,9 +104,14 @@ public class UserEntity extends TimeStamp {
     }
 
     public static UserEntity of(SignUpDto signUpDto, PasswordEncoder passwordEncoder) {
+        return of(signUpDto, passwordEncoder.encode(signUpDto.getPassword()));
+    }
+
+    // 비밀번호를 미리 해시한 경우 (해시 스레드 풀에서 인코딩)
+    public static UserEntity of(SignUpDto signUpDto, String encodedPassword) {
         return UserEntity.buildDefaultUser()
                 .username(signUpDto.getUsername())
-                .password(passwordEncoder.encode(signUpDto.getPassword()))
+                .password(encodedPassword)
                 .email(signUpDto.getEmail())
                 .nickname(signUpDto.getNickname())
                 .authority(signUpDto.getAuthority() == null ?
@@ -137,6 +144,12 @@ public class UserEntity extends TimeStamp {
         return Objects.hash(username);
     }
 
+    // 더 높은 BCrypt cost로 다시 해시한 비밀번호로 교체
+    public void updatePassword(String encodedPassword) {
+        Assert.hasText(encodedPassword, UserFunction.getClassName() + "password가 비어있습니다.");
+        this.password = encodedPassword;
+    }
+
     public void updateInfo(UserRequestDto requestDto) {
         this.nickname = requestDto.getNickname();
         this.profileImageUrl = requestDto.getProfileImageUrl();
@@ -0,0 +1,18 @@
+package com.sparta.doing.entity.constant;
+
+import lombok.Getter;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    @Getter
+    private final String contentType;
+    @Getter
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.doing.entity.constant;
+
+import lombok.Getter;
+
+public enum HashtagMatch {
+    ANY("하나라도 포함"),
+    ALL("모두 포함");
+
+    @Getter
+    private final String description;
+
+    HashtagMatch(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.doing.event;
+
+import com.sparta.doing.entity.Board;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 생성/수정/삭제 시 발행되는 이벤트
+ * 검색 인덱스 등 메모리 자료구조는 커밋 이후(@TransactionalEventListener)에 이 이벤트로 갱신한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardChangedEvent {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long boardId;
+    private final String boardTitle;
+    private final String boardContent;
+    private final String boardHashtag;
+
+    public static BoardChangedEvent created(Board board) {
+        return of(Type.CREATED, board);
+    }
+
+    public static BoardChangedEvent updated(Board board) {
+        return of(Type.UPDATED, board);
+    }
+
+    public static BoardChangedEvent deleted(Board board) {
+        return of(Type.DELETED, board);
+    }
+
+    private static BoardChangedEvent of(Type type, Board board) {
+        return new BoardChangedEvent(type, board.getId(), board.getBoardTitle(),
+                board.getBoardContent(), board.getBoardHashtag());
+    }
+}
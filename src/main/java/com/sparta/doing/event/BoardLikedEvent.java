@@ -0,0 +1,21 @@
+package com.sparta.doing.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 좋아요 추가/취소 시 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardLikedEvent {
+    private final Long boardId;
+    private final Long userId;
+    // true: 좋아요 추가, false: 좋아요 취소
+    private final boolean liked;
+
+    public static BoardLikedEvent of(Long boardId, Long userId, boolean liked) {
+        return new BoardLikedEvent(boardId, userId, liked);
+    }
+}
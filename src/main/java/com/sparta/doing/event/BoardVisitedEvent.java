@@ -0,0 +1,19 @@
+package com.sparta.doing.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 상세 조회 시 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardVisitedEvent {
+    private final Long boardId;
+    private final String boardTitle;
+
+    public static BoardVisitedEvent of(Long boardId, String boardTitle) {
+        return new BoardVisitedEvent(boardId, boardTitle);
+    }
+}
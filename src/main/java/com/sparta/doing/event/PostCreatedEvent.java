@@ -0,0 +1,19 @@
+package com.sparta.doing.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판에 게시글이 작성되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCreatedEvent {
+    private final Long boardId;
+    private final Long postId;
+
+    public static PostCreatedEvent of(Long boardId, Long postId) {
+        return new PostCreatedEvent(boardId, postId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.doing.event;
+
+import com.sparta.doing.entity.UserEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원가입, 회원 정보 수정 시 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserChangedEvent {
+    private final Long userId;
+    private final String username;
+    private final String nickname;
+
+    public static UserChangedEvent of(UserEntity userEntity) {
+        return new UserChangedEvent(userEntity.getId(), userEntity.getUsername(), userEntity.getNickname());
+    }
+}
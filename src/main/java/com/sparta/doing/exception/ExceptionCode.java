@@ -13,7 +13,9 @@ public enum ExceptionCode {
     WRONG_TOKEN("1004",
             "JWT claims is empty, 잘못된 JWT 토큰 입니다."),
     UNKNOWN_ERROR("1005", "Unknown error"),
-    ACCESS_DENIED("1006", "접근 거부.");
+    ACCESS_DENIED("1006", "접근 거부."),
+    REVOKED_TOKEN("1007",
+            "Revoked JWT token, 로그아웃 등으로 폐기된 JWT token 입니다.");
 
     private final String code;
     private final String message;
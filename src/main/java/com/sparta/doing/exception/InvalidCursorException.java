@@ -0,0 +1,14 @@
+package com.sparta.doing.exception;
+
+/**
+ * 페이지네이션 커서의 형식이 잘못되었을 때 발생
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        this(message, null);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.doing.exception;
+
+/**
+ * 비밀번호 해시 스레드 풀과 대기열이 모두 가득 찼을 때 발생
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        this(message, null);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
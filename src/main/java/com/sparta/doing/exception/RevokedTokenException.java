@@ -0,0 +1,14 @@
+package com.sparta.doing.exception;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰으로 요청했을 때 발생
+ */
+public class RevokedTokenException extends RuntimeException {
+    public RevokedTokenException(String message) {
+        this(message, null);
+    }
+
+    public RevokedTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
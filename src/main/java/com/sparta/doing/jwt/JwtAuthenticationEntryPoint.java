@@ -39,6 +39,10 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         else if (exception.equals(ExceptionCode.EXPIRED_TOKEN.getCode())) {
             setResponse(response, ExceptionCode.EXPIRED_TOKEN);
         }
+        // 로그아웃 등으로 폐기된 토큰인 경우
+        else if (exception.equals(ExceptionCode.REVOKED_TOKEN.getCode())) {
+            setResponse(response, ExceptionCode.REVOKED_TOKEN);
+        }
         // 지원되지 않는 토큰인 경우
         else if (exception.equals(ExceptionCode.UNSUPPORTED_TOKEN.getCode())) {
             setResponse(response, ExceptionCode.UNSUPPORTED_TOKEN);
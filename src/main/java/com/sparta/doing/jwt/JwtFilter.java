@@ -1,6 +1,7 @@
 package com.sparta.doing.jwt;
 
 import com.sparta.doing.exception.ExceptionCode;
+import com.sparta.doing.exception.RevokedTokenException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -45,11 +46,11 @@ public class JwtFilter extends OncePerRequestFilter {
         // 요청이 들어온 URI
         String requestURI = servletRequest.getRequestURI();
 
-        // 2. validateToken으로 토큰 유효성 검사
+        // 2. authenticate로 토큰 검증과 인증 정보 추출을 한 번에 수행 (검증된 토큰은 만료 시각까지 캐시)
         // 정상 토큰이면 해당 토큰으로 Authentication을 가져와서 SecurityContext에 저장
         try {
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (StringUtils.hasText(jwt)) {
+                Authentication authentication = tokenProvider.authenticate(jwt);
                 log.info("Authentication: " + authentication);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.info("Security Context에 'userId: {}' 인증 정보를 저장했습니다, " +
@@ -63,6 +64,8 @@ public class JwtFilter extends OncePerRequestFilter {
             servletRequest.setAttribute("exception", ExceptionCode.INVALID_SIGNATURE_TOKEN.getCode());
         } catch (ExpiredJwtException e) {
             servletRequest.setAttribute("exception", ExceptionCode.EXPIRED_TOKEN.getCode());
+        } catch (RevokedTokenException e) {
+            servletRequest.setAttribute("exception", ExceptionCode.REVOKED_TOKEN.getCode());
         } catch (UnsupportedJwtException e) {
             servletRequest.setAttribute("exception", ExceptionCode.UNSUPPORTED_TOKEN.getCode());
         } catch (IllegalArgumentException e) {
@@ -1,26 +1,34 @@
 package com.sparta.doing.jwt;
 
 import com.sparta.doing.controller.responsedto.TokenDto;
-import com.sparta.doing.security.CustomUserDetails;
+import com.sparta.doing.exception.ExceptionCode;
+import com.sparta.doing.exception.RevokedTokenException;
+import com.sparta.doing.security.AccessTokenDenylist;
+import com.sparta.doing.security.GrantedAuthorities;
+import com.sparta.doing.security.JwtPrincipal;
+import com.sparta.doing.util.BoundedCache;
+import com.sparta.doing.util.ExpiringCache;
+import com.sparta.doing.util.TokenDigest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.InvalidKeyException;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,9 +38,17 @@ public class TokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
     private static final String BEARER_TYPE = "bearer";
     private static final String USER_ID = "uid";
+    // 검증된 액세스 토큰 캐시 크기 (토큰 수, 대략적인 한도)
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
     private final long ACCESS_TOKEN_LIFETIME_IN_MS;
     private final long REFRESH_TOKEN_LIFETIME_IN_MS;
     private final Key key;
+    // JwtParser는 불변이고 스레드에 안전하므로 하나만 만들어서 재사용
+    private final JwtParser jwtParser;
+    // 토큰 SHA-256 -> 검증 결과. 토큰의 exp까지만 보관한다.
+    // 모든 인증 요청이 조회하므로 전역 잠금이 없는 ExpiringCache를 쓴다.
+    private final ExpiringCache<String, VerifiedToken> verifiedTokens = new ExpiringCache<>(MAX_VERIFIED_TOKENS);
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public long getACCESS_TOKEN_LIFETIME_IN_MS() {
         return ACCESS_TOKEN_LIFETIME_IN_MS;
@@ -46,7 +62,8 @@ public class TokenProvider {
     public TokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-lifetime-in-seconds}") long accessTokenLifetimeInSeconds,
-            @Value("${jwt.refresh-token-lifetime-in-seconds}") long refreshTokenLifetimeInSeconds) {
+            @Value("${jwt.refresh-token-lifetime-in-seconds}") long refreshTokenLifetimeInSeconds,
+            AccessTokenDenylist accessTokenDenylist) {
 
         // second -> millisecond로 변환
         this.ACCESS_TOKEN_LIFETIME_IN_MS =
@@ -58,6 +75,8 @@ public class TokenProvider {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         // 키의 자리수 검증 및 SecretKey 객체 생성
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     // 토큰 생성
@@ -77,6 +96,8 @@ public class TokenProvider {
         var accessToken = Jwts.builder()
                 // payload "sub": "name"
                 .setSubject("Access Token")
+                // payload "jti": 토큰마다 고유한 id (로그아웃 시 이 값으로 폐기)
+                .setId(UUID.randomUUID().toString())
                 // 클레임에 userId(PK) 저장
                 .claim(USER_ID, userId)
                 // payload "auth": "ROLE_USER"
@@ -113,41 +134,98 @@ public class TokenProvider {
                 .build();
     }
 
+    // 만료된 토큰에서도 인증 정보를 꺼낸다. (토큰 재발급용, 서명은 검증)
     public Authentication getAuthentication(String accessToken) {
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return toVerifiedToken(parseClaims(accessToken)).toAuthentication(accessToken);
+    }
 
-        if (claims.get(AUTHORITIES_KEY) == null) {
-            throw new InvalidKeyException("권한 정보가 없는 토큰입니다.");
+    /**
+     * 요청마다 액세스 토큰을 검증하고 인증 정보를 만든다. (JwtFilter)
+     * 서명 검증과 클레임 파싱을 한 번만 하고, 결과를 토큰 만료 시각까지 캐시해서
+     * 같은 토큰으로 다시 요청하면 HMAC 검증과 JSON 파싱 없이 다이제스트 계산만 한다.
+     * 유효하지 않은 토큰은 검증과 같은 예외(ExpiredJwtException 등)를 던지고 캐시하지 않는다.
+     * 폐기된 토큰은 캐시 여부와 관계없이 매번 폐기 목록(블룸 필터)으로 확인한다.
+     *
+     * @throws RevokedTokenException 로그아웃 등으로 폐기된 토큰
+     */
+    public Authentication authenticate(String accessToken) {
+        String digest = TokenDigest.sha256(accessToken);
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null) {
+            verified = verify(accessToken);
+            // exp가 없는 토큰도 액세스 토큰 유효기간까지만 보관
+            verifiedTokens.put(digest, verified,
+                    Math.min(verified.expiresAt, now + Math.max(1L, ACCESS_TOKEN_LIFETIME_IN_MS)));
         }
+        if (verified.jti != null && accessTokenDenylist.isRevoked(verified.jti)) {
+            throw new RevokedTokenException(ExceptionCode.REVOKED_TOKEN.getMessage());
+        }
+        return verified.toAuthentication(accessToken);
+    }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+    /**
+     * 액세스 토큰을 만료 시각까지 사용할 수 없게 한다. (로그아웃)
+     * jti가 없는 이전 형식의 토큰은 폐기할 수 없으므로 만료될 때까지 유효하다.
+     */
+    public void revoke(String accessToken) {
+        VerifiedToken verified = toVerifiedToken(parseClaims(accessToken));
+        if (verified.jti != null) {
+            accessTokenDenylist.revoke(verified.jti, verified.expiresAt);
+        }
+    }
 
-        // User 객체를 생성해서 Authentication 반환
-        long userId = (int) claims.get(USER_ID);
-        CustomUserDetails principal =
-                new CustomUserDetails(
-                        String.valueOf(userId), "", String.valueOf(userId), authorities);
+    // 캐시 없이 한 번 파싱으로 검증 + 인증 정보 추출
+    public VerifiedToken verify(String accessToken) {
+        return toVerifiedToken(jwtParser.parseClaimsJws(accessToken).getBody());
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
+    public BoundedCache.Stats verifiedTokenStats() {
+        return verifiedTokens.stats();
     }
 
     // 토큰 검증
     public boolean validateToken(String token) {
-        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        jwtParser.parseClaimsJws(token);
         return true;
     }
 
     // 토큰 복호화
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Object authorityClaim = claims.get(AUTHORITIES_KEY);
+        if (authorityClaim == null) {
+            throw new InvalidKeyException("권한 정보가 없는 토큰입니다.");
+        }
+
+        // 클레임에서 권한 정보 가져오기 (미리 만들어 둔 불변 집합을 재사용)
+        // 큰 id는 Long으로 파싱되므로 Number로 받는다.
+        long userId = ((Number) claims.get(USER_ID)).longValue();
+        JwtPrincipal principal = JwtPrincipal.of(userId, GrantedAuthorities.fromClaim(authorityClaim.toString()));
+
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        return new VerifiedToken(principal, claims.getId(), expiresAt);
+    }
+
+    /**
+     * 검증이 끝난 토큰의 인증 정보
+     * Authentication은 요청마다 새로 만들어서 요청 간에 같은 객체를 공유하지 않는다.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class VerifiedToken {
+        private final JwtPrincipal principal;
+        private final String jti;
+        private final long expiresAt;
+
+        public Authentication toAuthentication(String accessToken) {
+            return new UsernamePasswordAuthenticationToken(principal, accessToken, principal.getAuthorities());
+        }
+    }
 }
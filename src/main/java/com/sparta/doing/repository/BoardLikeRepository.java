@@ -1,12 +1,24 @@
 package com.sparta.doing.repository;
 
-import com.sparta.doing.entity.Board;
 import com.sparta.doing.entity.BoardLike;
-import com.sparta.doing.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
-    Optional<BoardLike> findByBoardAndUserEntity(Board board, UserEntity userEntity);
+    // (board_id, user_id) 유니크 인덱스로 바로 삭제. 삭제된 행 수(0 또는 1)를 반환
+    @Modifying
+    @Query("delete from BoardLike l where l.board.id = :boardId and l.userEntity.id = :userId")
+    int deleteByBoardIdAndUserId(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    long countByBoardId(Long boardId);
+
+    // (board_id, user_id) 순서로 읽어서 게시판별 user_id 집합에 뒤에서부터 붙인다.
+    @Query("select l.board.id as boardId, l.userEntity.id as userId from BoardLike l where l.board.id in :boardIds"
+            + " order by l.board.id, l.userEntity.id")
+    List<BoardLikeView> findByBoardIds(@Param("boardIds") Collection<Long> boardIds);
 }
@@ -0,0 +1,10 @@
+package com.sparta.doing.repository;
+
+/**
+ * 좋아요 비트맵을 구성할 때 쓰는 (board_id, user_id) 프로젝션
+ */
+public interface BoardLikeView {
+    Long getBoardId();
+
+    Long getUserId();
+}
@@ -6,12 +6,21 @@ import com.sparta.doing.entity.QBoard;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository extends
         JpaRepository<Board, Long>,
+        BoardRepositoryCustom,
         QuerydslPredicateExecutor<Board>,
         QuerydslBinderCustomizer<QBoard> {
     Page<Board> findByBoardTitleContaining(String boardTitle, Pageable pageable);
@@ -24,14 +33,49 @@ public interface BoardRepository extends
 
     Page<Board> findByBoardHashtagContaining(String boardHashtag, Pageable pageable);
 
+    // board_id 기준으로 잘라서 텍스트 컬럼만 조회 (인덱스 재구성용)
+    @Query("select b.id as id, b.boardTitle as boardTitle, b.boardContent as boardContent, " +
+            "b.boardHashtag as boardHashtag from Board b where b.id > :afterId order by b.id")
+    List<BoardTextView> findTextChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 해시태그 문자열은 있는데 board_hashtag 행이 없는 게시판 (해시태그 백필용)
+    @Query("select b from Board b where b.id > :afterId and b.boardHashtag is not null " +
+            "and b.hashtags is empty order by b.id")
+    List<Board> findHashtagBackfillChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 게시판 상세 ETag 계산용 버전 컬럼
+    @Query("select b.modifiedAt as modifiedAt, b.boardLikeCount as boardLikeCount, b.postCount as postCount " +
+            "from Board b where b.id = :boardId")
+    Optional<BoardVersionView> findVersionById(@Param("boardId") Long boardId);
+
+    // 최근 게시판의 카운터 (인기 게시판 점수 재계산용)
+    // createdAt 인덱스 범위 탐색 후 최신순으로 읽는다.
+    @Query("select b.id as id, b.boardTitle as boardTitle, b.countBoardVisit as countBoardVisit, " +
+            "b.boardLikeCount as boardLikeCount, b.postCount as postCount, b.createdAt as createdAt " +
+            "from Board b where b.createdAt >= :since order by b.createdAt desc")
+    List<BoardTrendingView> findTrendingCandidates(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 좋아요 수를 읽지 않고 DB에서 상대값으로 증감 (동시 요청에도 누락 없음)
+    @Modifying
+    @Query("update Board b set b.boardLikeCount = b.boardLikeCount + :delta where b.id = :boardId")
+    int addLikeCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    // GET /boards/search의 조건 (@QuerydslPredicate)
+    // 파라미터 값은 모두 바인드 변수로 들어가므로 같은 조건 조합이면 같은 JPQL이 만들어져 쿼리 플랜 캐시를 재사용한다.
     @Override
     default void customize(QuerydslBindings bindings, QBoard root) {
         bindings.excludeUnlistedProperties(true);
-        bindings.including(root.boardTitle, root.boardContent, root.boardHashtag, root.createdAt);
+        bindings.including(root.boardTitle, root.boardContent, root.boardHashtag, root.authorName, root.createdAt);
         bindings.bind(root.boardTitle).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.boardContent).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.boardHashtag).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.createdAt).first(StringExpression::eq);
+        bindings.bind(root.authorName).first(StringExpression::containsIgnoreCase);
+        // createdAt=시작 하나면 그 이후, createdAt=시작&createdAt=끝 두 개면 기간 조회 (인덱스 범위 탐색)
+        bindings.bind(root.createdAt).all((path, values) -> {
+            Iterator<? extends LocalDateTime> iterator = values.iterator();
+            LocalDateTime from = iterator.next();
+            return Optional.of(iterator.hasNext() ? path.between(from, iterator.next()) : path.goe(from));
+        });
     }
 
 }
@@ -0,0 +1,30 @@
+package com.sparta.doing.repository;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.types.Predicate;
+import com.sparta.doing.controller.dto.BoardCursor;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface BoardRepositoryCustom {
+    // 목록용 프로젝션 조회 (board + users 조인 1번 + 필요 시 COUNT 1번)
+    Page<BoardListResponseDto> findListPage(Predicate predicate, Pageable pageable);
+
+    // (createdAt, board_id) 키셋 조회. cursor가 null이면 첫 페이지
+    // PREV 커서는 오름차순으로 조회되므로 호출하는 쪽에서 뒤집어야 한다.
+    List<BoardListResponseDto> findByKeyset(Predicate predicate, BoardCursor cursor, int limit);
+
+    // id 목록의 목록 컬럼을 PK로 조회 (검색 결과 캐시용). 반환 순서는 ids 순서와 같다.
+    List<BoardListResponseDto> findListByIds(List<Long> ids);
+
+    // 조건에 맞는 목록 행을 board_id 순서로 전진 전용 커서(ScrollableResults)로 읽는다. (내보내기용)
+    // fetchSize개씩 가져오므로 전체 결과를 메모리에 올리지 않는다. 다 읽은 후 반드시 close 해야 한다.
+    CloseableIterator<BoardListResponseDto> streamList(Predicate predicate, int fetchSize);
+
+    // COUNT 쿼리 없이 size + 1개를 조회해서 다음 페이지 존재 여부만 판단
+    Slice<BoardListResponseDto> findSlice(Predicate predicate, Pageable pageable);
+}
@@ -0,0 +1,143 @@
+package com.sparta.doing.repository;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.doing.controller.dto.BoardCursor;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
+import com.sparta.doing.entity.Board;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.querydsl.binding.PathBuilderFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.sparta.doing.entity.QBoard.board;
+import static com.sparta.doing.entity.QUserEntity.userEntity;
+
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final Querydsl querydsl;
+
+    public BoardRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.querydsl = new Querydsl(entityManager,
+                new PathBuilderFactory().create(Board.class));
+    }
+
+    @Override
+    public Page<BoardListResponseDto> findListPage(Predicate predicate, Pageable pageable) {
+        JPQLQuery<BoardListResponseDto> query = selectList().where(predicate);
+        querydsl.applySorting(pageable.getSort(), query);
+
+        List<BoardListResponseDto> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 첫 페이지에서 size보다 적게 조회되는 등 개수를 알 수 있으면 COUNT 쿼리를 생략
+        JPAQuery<Long> countQuery = queryFactory.select(board.count())
+                .from(board)
+                .where(predicate);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<BoardListResponseDto> findByKeyset(Predicate predicate, BoardCursor cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(predicate);
+
+        boolean backward = cursor != null && cursor.isPrev();
+        if (cursor != null) {
+            // createdAt 인덱스(+ PK)를 타는 범위 조건. OFFSET 없이 커서 위치부터 바로 읽는다.
+            where.and(backward
+                    ? board.createdAt.gt(cursor.getCreatedAt())
+                    .or(board.createdAt.eq(cursor.getCreatedAt()).and(board.id.gt(cursor.getId())))
+                    : board.createdAt.lt(cursor.getCreatedAt())
+                    .or(board.createdAt.eq(cursor.getCreatedAt()).and(board.id.lt(cursor.getId()))));
+        }
+
+        return selectList()
+                .where(where)
+                .orderBy(backward ? board.createdAt.asc() : board.createdAt.desc(),
+                        backward ? board.id.asc() : board.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardListResponseDto> findListByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, BoardListResponseDto> boards = selectList()
+                .where(board.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(BoardListResponseDto::getId, Function.identity()));
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CloseableIterator<BoardListResponseDto> streamList(Predicate predicate, int fetchSize) {
+        // 프로젝션 결과는 영속성 컨텍스트에 쌓이지 않으므로 중간에 clear 할 필요가 없다.
+        return selectList()
+                .where(predicate)
+                .orderBy(board.id.asc())
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .iterate();
+    }
+
+    @Override
+    public Slice<BoardListResponseDto> findSlice(Predicate predicate, Pageable pageable) {
+        JPQLQuery<BoardListResponseDto> query = selectList().where(predicate);
+        querydsl.applySorting(pageable.getSort(), query);
+
+        List<BoardListResponseDto> content = new ArrayList<>(query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch());
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // 목록 화면에 필요한 컬럼만 board + users 조인 1번으로 조회 (게시글, 게시판 내용은 조회하지 않음)
+    private JPAQuery<BoardListResponseDto> selectList() {
+        return queryFactory
+                .select(Projections.constructor(BoardListResponseDto.class,
+                        board.id,
+                        board.boardTitle,
+                        board.authorName,
+                        board.boardHashtag,
+                        board.countBoardVisit,
+                        board.boardLikeCount,
+                        board.postCount,
+                        board.createdAt,
+                        userEntity.id,
+                        userEntity.nickname))
+                .from(board)
+                .join(board.userEntity, userEntity);
+    }
+}
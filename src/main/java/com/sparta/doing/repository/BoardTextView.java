@@ -0,0 +1,14 @@
+package com.sparta.doing.repository;
+
+/**
+ * 메모리 인덱스를 재구성할 때 쓰는 게시판 텍스트 컬럼 프로젝션
+ */
+public interface BoardTextView {
+    Long getId();
+
+    String getBoardTitle();
+
+    String getBoardContent();
+
+    String getBoardHashtag();
+}
@@ -0,0 +1,20 @@
+package com.sparta.doing.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시판 점수를 DB에서 다시 계산할 때 쓰는 프로젝션
+ */
+public interface BoardTrendingView {
+    Long getId();
+
+    String getBoardTitle();
+
+    int getCountBoardVisit();
+
+    int getBoardLikeCount();
+
+    int getPostCount();
+
+    LocalDateTime getCreatedAt();
+}
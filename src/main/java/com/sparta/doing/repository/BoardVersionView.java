@@ -0,0 +1,14 @@
+package com.sparta.doing.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 상세 ETag 계산용 프로젝션 (PK 조회 한 번으로 끝나도록 버전에 필요한 컬럼만)
+ */
+public interface BoardVersionView {
+    LocalDateTime getModifiedAt();
+
+    int getBoardLikeCount();
+
+    int getPostCount();
+}
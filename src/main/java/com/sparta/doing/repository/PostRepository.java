@@ -0,0 +1,15 @@
+package com.sparta.doing.repository;
+
+import com.sparta.doing.entity.PostEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostRepository extends JpaRepository<PostEntity, Long> {
+    // (board_id, post_id) 인덱스를 타는 키셋 조회. 첫 페이지는 afterId = 0
+    @Query("select p from PostEntity p where p.board.id = :boardId and p.id > :afterId order by p.id asc")
+    List<PostEntity> findPage(@Param("boardId") Long boardId, @Param("afterId") Long afterId, Pageable pageable);
+}
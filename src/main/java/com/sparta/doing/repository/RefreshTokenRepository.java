@@ -2,9 +2,19 @@ package com.sparta.doing.repository;
 
 import com.sparta.doing.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     // Optional<RefreshToken> findByKey(Long key);
+
+    // 저장된 다이제스트가 oldValue 일 때만 교체. 바뀐 행 수(0 또는 1)를 반환
+    // 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 수정 시각도 직접 넣는다.
+    @Modifying
+    @Query("update RefreshToken r set r.value = :newValue, r.modifiedAt = current_timestamp"
+            + " where r.key = :key and r.value = :oldValue")
+    int replaceValue(@Param("key") Long key, @Param("oldValue") String oldValue, @Param("newValue") String newValue);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.sparta.doing.repository;
+
+/**
+ * 메모리 인덱스를 재구성할 때 쓰는 유저 아이디/닉네임 프로젝션
+ */
+public interface UserNameView {
+    Long getId();
+
+    String getUsername();
+
+    String getNickname();
+}
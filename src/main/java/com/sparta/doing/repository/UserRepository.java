@@ -1,8 +1,12 @@
 package com.sparta.doing.repository;
 
 import com.sparta.doing.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
@@ -13,4 +17,9 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByNickname(String nickname);
 
     Optional<UserEntity> findByUsername(String username);
+
+    // user_id 기준으로 잘라서 아이디/닉네임만 조회 (인덱스 재구성용)
+    @Query("select u.id as id, u.username as username, u.nickname as nickname " +
+            "from UserEntity u where u.id > :afterId order by u.id")
+    List<UserNameView> findNameChunk(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,58 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.util.TimePartitionedBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃 등으로 폐기한 액세스 토큰(jti) 목록
+ * 요청마다 확인하므로 블룸 필터를 먼저 보고(대부분 여기서 false), 있을 수도 있다고 나올 때만 정확한 목록에서 확인한다.
+ * 블룸 필터는 토큰 만료 시각 구간별로 나누어 두고, 구간의 토큰이 모두 만료되면 구간째 버린다.
+ */
+@Component
+public class AccessTokenDenylist {
+    // 액세스 토큰 유효기간을 이 수만큼 구간으로 나눈다.
+    private static final int PARTITIONS_PER_LIFETIME = 4;
+
+    private final TimePartitionedBloomFilter bloomFilter;
+    // jti -> 토큰 만료 시각
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public AccessTokenDenylist(
+            @Value("${jwt.access-token-lifetime-in-seconds}") long accessTokenLifetimeInSeconds,
+            @Value("${security.access-token-denylist.expected-revocations-per-partition:10000}") int expectedRevocations,
+            @Value("${security.access-token-denylist.false-positive-rate:0.01}") double falsePositiveRate) {
+        long partitionMillis = Math.max(1000L, accessTokenLifetimeInSeconds * 1000 / PARTITIONS_PER_LIFETIME);
+        this.bloomFilter = new TimePartitionedBloomFilter(partitionMillis, expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * @param expiresAt 토큰의 exp. 이 시각이 지나면 토큰 자체가 만료되므로 목록에서도 지운다.
+     */
+    public void revoke(String jti, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revoked.put(jti, expiresAt);
+        bloomFilter.put(jti, expiresAt);
+    }
+
+    public boolean isRevoked(String jti) {
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${security.access-token-denylist.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        bloomFilter.expire(now);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.entity.Authority;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT "auth" 클레임 문자열 -> 권한 집합
+ * 알려진 Authority 값의 권한 객체와 집합을 미리 만들어 두고 모든 요청에서 같은 (불변) 객체를 돌려준다.
+ * 요청마다 split, SimpleGrantedAuthority, TreeSet을 새로 만들지 않는다.
+ * 서명 검증을 통과한 토큰의 클레임만 들어오므로 조합 수는 발급한 권한 조합 수를 넘지 않는다.
+ */
+public class GrantedAuthorities {
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new HashMap<>();
+    private static final Map<String, Set<GrantedAuthority>> SETS_BY_CLAIM = new ConcurrentHashMap<>();
+
+    static {
+        for (Authority authority : Authority.values()) {
+            GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(authority.name());
+            AUTHORITIES.put(authority.name(), grantedAuthority);
+            SETS_BY_CLAIM.put(authority.name(), Set.of(grantedAuthority));
+        }
+    }
+
+    private GrantedAuthorities() {
+    }
+
+    // "ROLE_USER" 또는 "ROLE_USER,ROLE_ADMIN" 형식 (TokenProvider가 쉼표로 이어서 발급)
+    public static Set<GrantedAuthority> fromClaim(String claim) {
+        Set<GrantedAuthority> authorities = SETS_BY_CLAIM.get(claim);
+        return authorities != null ? authorities : SETS_BY_CLAIM.computeIfAbsent(claim, GrantedAuthorities::parse);
+    }
+
+    public static GrantedAuthority of(Authority authority) {
+        return AUTHORITIES.get(authority.name());
+    }
+
+    // 처음 보는 조합만 파싱한다. UserDetails 계약대로 반복 순서가 일정하도록 이름순으로 정렬
+    private static Set<GrantedAuthority> parse(String claim) {
+        SortedMap<String, GrantedAuthority> sorted = new TreeMap<>();
+        for (String name : claim.split(",")) {
+            String trimmed = name.strip();
+            if (!trimmed.isEmpty()) {
+                sorted.put(trimmed, AUTHORITIES.getOrDefault(trimmed, new SimpleGrantedAuthority(trimmed)));
+            }
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(sorted.values()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.util.TimingWheel;
+import com.sparta.doing.util.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 리프레쉬 토큰 저장소 (기본값)
+ * 토큰 원문 대신 SHA-256 다이제스트와 만료 시각만 저장하고, 만료된 항목은 타이밍 휠로 제거한다.
+ * 서버가 재시작되면 모두 사라지므로 유저는 다시 로그인해야 한다. (유지가 필요하면 store: jpa)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    // 1초 단위, 64칸 3단계 -> 약 72시간까지 휠 안에서 처리 (리프레쉬 토큰 기본 유효기간 3시간)
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final TimingWheel<Long> expirations =
+            new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    @Override
+    public void save(long userId, String refreshToken, long lifetimeMillis) {
+        long expiresAt = System.currentTimeMillis() + lifetimeMillis;
+        entries.put(userId, new Entry(digest(refreshToken), expiresAt));
+        expirations.schedule(userId, expiresAt);
+    }
+
+    @Override
+    public Match match(long userId, String refreshToken) {
+        Entry entry = entries.get(userId);
+        // 휠이 아직 제거하지 않았더라도 만료 시각이 지났으면 없는 것으로 본다.
+        if (entry == null || entry.expiresAt <= System.currentTimeMillis()) {
+            return Match.NOT_FOUND;
+        }
+        return MessageDigest.isEqual(entry.digest, digest(refreshToken)) ? Match.MATCHED : Match.MISMATCHED;
+    }
+
+    @Override
+    public boolean replace(long userId, String oldToken, String newToken, long lifetimeMillis) {
+        Entry current = entries.get(userId);
+        if (current == null || current.expiresAt <= System.currentTimeMillis()
+                || !MessageDigest.isEqual(current.digest, digest(oldToken))) {
+            return false;
+        }
+        long expiresAt = System.currentTimeMillis() + lifetimeMillis;
+        // 읽은 항목(current)이 그대로 있을 때만 바꾼다. (Entry는 equals를 재정의하지 않아 객체 동일성으로 비교)
+        if (!entries.replace(userId, current, new Entry(digest(newToken), expiresAt))) {
+            return false;
+        }
+        expirations.schedule(userId, expiresAt);
+        return true;
+    }
+
+    @Override
+    public boolean remove(long userId) {
+        Entry removed = entries.remove(userId);
+        return removed != null && removed.expiresAt > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        // 다시 로그인해서 만료 시각이 바뀐 항목은 남긴다. (휠에는 이전 만료 시각도 그대로 남아 있다.)
+        int expired = expirations.advance(now, userId ->
+                entries.computeIfPresent(userId, (key, entry) -> entry.expiresAt <= now ? null : entry));
+        if (expired > 0) {
+            log.debug("만료된 리프레쉬 토큰 정리: {}건, 남은 토큰 {}건", expired, entries.size());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static byte[] digest(String refreshToken) {
+        return TokenDigest.sha256(refreshToken).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Entry {
+        private final byte[] digest;
+        private final long expiresAt;
+
+        private Entry(byte[] digest, long expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.entity.RefreshToken;
+import com.sparta.doing.repository.RefreshTokenRepository;
+import com.sparta.doing.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh_token 테이블 리프레쉬 토큰 저장소 (서버 재시작 후에도 로그인 유지)
+ * rt_value 에는 토큰 원문 대신 SHA-256 다이제스트를 저장한다.
+ * 만료는 리프레쉬 토큰 자체의 exp로 검증하므로 테이블 행은 로그아웃 때만 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(long userId, String refreshToken, long lifetimeMillis) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .key(userId)
+                .value(TokenDigest.sha256(refreshToken))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Match match(long userId, String refreshToken) {
+        return refreshTokenRepository.findById(userId)
+                .map(saved -> saved.getValue().equals(TokenDigest.sha256(refreshToken))
+                        ? Match.MATCHED : Match.MISMATCHED)
+                .orElse(Match.NOT_FOUND);
+    }
+
+    // 조건부 UPDATE 한 번으로 비교와 교체를 함께 한다. (동시 요청 중 하나만 1행을 바꾼다.)
+    @Override
+    @Transactional
+    public boolean replace(long userId, String oldToken, String newToken, long lifetimeMillis) {
+        return refreshTokenRepository.replaceValue(
+                userId, TokenDigest.sha256(oldToken), TokenDigest.sha256(newToken)) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean remove(long userId) {
+        return refreshTokenRepository.findById(userId)
+                .map(saved -> {
+                    refreshTokenRepository.delete(saved);
+                    return true;
+                })
+                .orElse(false);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sparta.doing.security;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+
+/**
+ * JWT로 인증된 요청의 principal (불변)
+ * user id를 long 그대로 들고 있어서 SecurityUtil이 문자열을 다시 파싱하지 않는다.
+ * 기존 코드(@AuthenticationPrincipal UserDetails, Authentication.getName())와 호환되도록 UserDetails를 구현하고,
+ * username은 user id 문자열이다. 비밀번호는 없다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtPrincipal implements UserDetails {
+    private final long userId;
+    private final String username;
+    private final Set<GrantedAuthority> authorities;
+
+    /**
+     * @param authorities GrantedAuthorities.fromClaim으로 만든 불변 집합
+     */
+    public static JwtPrincipal of(long userId, Set<GrantedAuthority> authorities) {
+        return new JwtPrincipal(userId, Long.toString(userId), authorities);
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public Set<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal(userId=" + userId + ", authorities=" + authorities + ")";
+    }
+}
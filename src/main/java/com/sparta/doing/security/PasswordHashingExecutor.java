@@ -0,0 +1,120 @@
+package com.sparta.doing.security;
+
+import com.sparta.doing.exception.PasswordHashingBusyException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀
+ * 로그인/회원가입의 BCrypt 연산을 Tomcat 요청 스레드 대신 크기가 정해진 풀에서 실행한다.
+ * 대기열까지 차면 기다리지 않고 바로 PasswordHashingBusyException(503)을 던져서
+ * 로그인이 몰려도 게시판 조회 등 다른 요청의 스레드를 잡아먹지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    /**
+     * @param poolSize      해시 스레드 수. 0 이하면 CPU 코어 수 (BCrypt는 CPU만 쓰므로 코어 수보다 늘려도 빨라지지 않는다.)
+     * @param queueCapacity 스레드가 모두 바쁠 때 기다릴 수 있는 작업 수
+     */
+    public PasswordHashingExecutor(@Value("${security.password.hashing.pool-size:0}") int poolSize,
+                                   @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * task를 해시 풀에서 실행한다. (task 안에서 예외가 나면 CompletableFuture가 예외로 완료된다.)
+     *
+     * @throws PasswordHashingBusyException 스레드와 대기열이 모두 찼을 때
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                totalWaitNanos.add(startedAt - submittedAt);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    long runNanos = System.nanoTime() - startedAt;
+                    totalRunNanos.add(runNanos);
+                    maxRunNanos.accumulateAndGet(runNanos, Math::max);
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.info("비밀번호 해시 대기열이 가득 찼습니다. active: {}, queue: {}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주십시오.", e);
+        }
+        return future;
+    }
+
+    public Stats stats() {
+        long completed = completedCount.sum();
+        return new Stats(executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                completed,
+                rejectedCount.sum(),
+                completed == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / completed,
+                completed == 0 ? 0.0 : totalRunNanos.sum() / 1_000_000.0 / completed,
+                maxRunNanos.get() / 1_000_000.0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Stats {
+        private final int poolSize;
+        private final int activeCount;
+        private final int queueDepth;
+        private final int queueCapacity;
+        private final long completedCount;
+        private final long rejectedCount;
+        // 대기열에서 기다린 평균 시간
+        private final double averageWaitMillis;
+        // 해시(로그인은 유저 조회 포함) 평균/최대 실행 시간
+        private final double averageRunMillis;
+        private final double maxRunMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.doing.security;
+
+/**
+ * 유저별 리프레쉬 토큰 저장소 (userId -> 현재 유효한 리프레쉬 토큰 1개)
+ * security.refresh-token.store 설정으로 구현을 고른다. (memory: 기본값, jpa: refresh_token 테이블)
+ */
+public interface RefreshTokenStore {
+    /**
+     * 유저의 리프레쉬 토큰을 저장 (이전 토큰은 더 이상 일치하지 않는다.)
+     *
+     * @param lifetimeMillis 리프레쉬 토큰 유효기간. 이 시간이 지나면 저장소에서 없어질 수 있다.
+     */
+    void save(long userId, String refreshToken, long lifetimeMillis);
+
+    Match match(long userId, String refreshToken);
+
+    /**
+     * 저장된 토큰이 oldToken 일 때만 newToken 으로 바꾼다. (비교와 교체가 한 번에 일어난다.)
+     * 같은 리프레쉬 토큰으로 동시에 재발급을 요청해도 하나만 성공한다.
+     *
+     * @return 교체했으면 true, 그 사이 다른 토큰으로 바뀌었거나 없어졌으면 false
+     */
+    boolean replace(long userId, String oldToken, String newToken, long lifetimeMillis);
+
+    /**
+     * @return 저장된 토큰이 있어서 지웠으면 true
+     */
+    boolean remove(long userId);
+
+    enum Match {
+        MATCHED,
+        // 다른 토큰이 저장되어 있음 (이미 재발급에 쓰인 토큰 등)
+        MISMATCHED,
+        // 로그아웃 했거나 만료됨
+        NOT_FOUND
+    }
+}
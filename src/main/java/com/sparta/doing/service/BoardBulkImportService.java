@@ -0,0 +1,138 @@
+package com.sparta.doing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.doing.controller.requestdto.BoardRequestDto;
+import com.sparta.doing.controller.responsedto.BulkImportResponseDto;
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON(한 줄에 BoardRequestDto JSON 하나) 게시판 일괄 등록
+ * chunkSize 줄씩 한 트랜잭션으로 persist 후 flush/clear 하므로
+ * hibernate.jdbc.batch_size 단위로 INSERT가 묶여서 전송되고, 영속성 컨텍스트도 커지지 않는다.
+ * 청크마다 커밋하므로 중간에 실패하면 앞 청크까지는 저장된 상태로 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardBulkImportService {
+    private static final int MAX_REPORTED_FAILED_LINES = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${board.bulk-import.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkImportResponseDto importBoards(InputStream ndjson, Long userId) throws IOException {
+        UserEntity author = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("게시판 작성 권한이 없습니다."));
+
+        long startedAt = System.nanoTime();
+        long importedCount = 0;
+        long failedCount = 0;
+        List<Long> failedLines = new ArrayList<>();
+        List<BoardRequestDto> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                BoardRequestDto boardRequestDto = parse(line);
+                if (boardRequestDto == null) {
+                    failedCount++;
+                    if (failedLines.size() < MAX_REPORTED_FAILED_LINES) {
+                        failedLines.add(lineNumber);
+                    }
+                    continue;
+                }
+                chunk.add(boardRequestDto);
+                if (chunk.size() == chunkSize) {
+                    importedCount += saveChunk(chunk, author);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedCount += saveChunk(chunk, author);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("게시판 일괄 등록: {}건 저장, {}건 실패, {}ms", importedCount, failedCount, elapsedMillis);
+        return BulkImportResponseDto.builder()
+                .importedCount(importedCount)
+                .failedCount(failedCount)
+                .failedLines(failedLines)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedMillis == 0 ? importedCount : importedCount * 1000.0 / elapsedMillis)
+                .build();
+    }
+
+    private int saveChunk(List<BoardRequestDto> chunk, UserEntity author) {
+        Integer saved = transactionTemplate.execute(status -> {
+            // 청크마다 clear 하므로 작성자는 프록시로만 참조 (유저 행을 다시 읽지 않음)
+            UserEntity authorReference = entityManager.getReference(UserEntity.class, author.getId());
+            for (BoardRequestDto boardRequestDto : chunk) {
+                // mapToUserEntity는 유저의 boardList를 초기화하므로 연관관계만 설정
+                Board board = Board.builder()
+                        .boardTitle(boardRequestDto.getBoardTitle())
+                        .authorName(author.getNickname())
+                        .boardContent(boardRequestDto.getBoardContent())
+                        .boardHashtag(boardRequestDto.getBoardHashtag())
+                        .userEntity(authorReference)
+                        .build();
+                board.updateHashtags();
+                entityManager.persist(board);
+                // 시퀀스 id라 flush 전에도 id가 있으므로 커밋 후 검색 인덱스 등에 바로 반영된다.
+                eventPublisher.publishEvent(BoardChangedEvent.created(board));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return chunk.size();
+        });
+        return saved == null ? 0 : saved;
+    }
+
+    // 형식이 잘못되었거나 제목/내용이 없으면 null
+    private BoardRequestDto parse(String line) {
+        try {
+            BoardRequestDto boardRequestDto = objectMapper.readValue(line, BoardRequestDto.class);
+            if (boardRequestDto.getBoardTitle() == null || boardRequestDto.getBoardTitle().isBlank()
+                    || boardRequestDto.getBoardContent() == null || boardRequestDto.getBoardContent().isBlank()) {
+                return null;
+            }
+            return boardRequestDto;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.entity.constant.HashtagMatch;
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.util.BoundedCache;
+import com.sparta.doing.util.NGramTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * (searchType, keyword)별 게시판 개수 캐시
+ * 페이지네이션 바는 대략적인 전체 개수만 있으면 되므로 매 요청마다 COUNT 쿼리를 날리지 않는다.
+ * 캐시 이후 게시판 생성/삭제가 일정량 이상 쌓이거나 일정 시간이 지나면 백그라운드에서 다시 센다.
+ */
+@Slf4j
+@Component
+public class BoardCountCache {
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long MAX_AGE_MS = TimeUnit.MINUTES.toMillis(1);
+    // 이 시간 동안 조회나 갱신이 없던 검색 조건은 지운다. (자주 쓰는 조건은 백그라운드 갱신 때 다시 저장된다.)
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long MIN_WRITES_TO_REFRESH = 50;
+    // 개수 대비 이 비율 이상 변경되면 다시 센다.
+    private static final double WRITE_RATIO_TO_REFRESH = 0.05;
+
+    // 가득 차면 가장 오래 조회되지 않은 조건부터 지운다. (한꺼번에 비우면 COUNT 쿼리가 동시에 몰린다.)
+    private final BoundedCache<String, Entry> entries = new BoundedCache<>(MAX_ENTRIES, TTL_MILLIS, entry -> 1L);
+    private final AtomicLong writeCount = new AtomicLong();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-count-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static String key(SearchType searchType, String searchKeyword, HashtagMatch hashtagMatch) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return "ALL";
+        }
+        return searchType.name() + ":" + hashtagMatch + ":" + NGramTokenizer.normalize(searchKeyword.strip());
+    }
+
+    /**
+     * 캐시된 개수를 반환. 캐시가 없으면 바로 세고, 오래되었으면 캐시 값을 반환하면서 백그라운드에서 갱신한다.
+     *
+     * @param counter 실제 COUNT 쿼리
+     */
+    public long get(String key, LongSupplier counter) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            long writesBefore = writeCount.get();
+            entry = new Entry(counter.getAsLong(), writesBefore, System.currentTimeMillis());
+            entries.put(key, entry);
+            return entry.count;
+        }
+        if (isStale(entry) && entry.refreshing.compareAndSet(false, true)) {
+            refreshAsync(key, entry, counter);
+        }
+        return entry.count;
+    }
+
+    // 게시판 수가 바뀌는 쓰기만 카운트 (수정은 검색 결과가 바뀔 수 있어 함께 센다)
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        writeCount.incrementAndGet();
+    }
+
+    public BoundedCache.Stats stats() {
+        return entries.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private boolean isStale(Entry entry) {
+        long writesSince = writeCount.get() - entry.writesAtCount;
+        long writeThreshold = Math.max(MIN_WRITES_TO_REFRESH, (long) (entry.count * WRITE_RATIO_TO_REFRESH));
+        return writesSince >= writeThreshold
+                || System.currentTimeMillis() - entry.countedAt >= MAX_AGE_MS;
+    }
+
+    private void refreshAsync(String key, Entry staleEntry, LongSupplier counter) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    long writesBefore = writeCount.get();
+                    entries.put(key, new Entry(counter.getAsLong(), writesBefore, System.currentTimeMillis()));
+                } catch (RuntimeException e) {
+                    log.warn("게시판 개수 갱신 실패 key: {}", key, e);
+                    staleEntry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            staleEntry.refreshing.set(false);
+        }
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long writesAtCount;
+        private final long countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(long count, long writesAtCount, long countedAt) {
+            this.count = count;
+            this.writesAtCount = writesAtCount;
+            this.countedAt = countedAt;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.controller.responsedto.BoardResponseDto;
+import com.sparta.doing.controller.responsedto.PostResponseDto;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.BoardLikedEvent;
+import com.sparta.doing.event.PostCreatedEvent;
+import com.sparta.doing.util.BoundedCache;
+import com.sparta.doing.util.IdStripes;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 상세(게시글 첫 페이지 포함) 캐시
+ * 수정/삭제/게시글 작성/좋아요가 커밋되면 해당 게시판을 캐시에서 지운다.
+ * 조회수는 캐시에 넣지 않고, 캐시된 이후의 조회 횟수를 따로 더해서 응답한다.
+ */
+@Component
+public class BoardDetailCache {
+    private static final long MAX_WEIGHT_BYTES = 16L * 1024 * 1024;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    // 구간 2^6 = 64개
+    private static final int STRIPE_BITS = 6;
+
+    private final BoundedCache<Long, CachedBoard> cache =
+            new BoundedCache<>(MAX_WEIGHT_BYTES, TTL_MILLIS, BoardDetailCache::weigh);
+    // 게시판 id 구간별 무효화 횟수. DB에서 읽는 동안 무효화가 있었으면 읽은 값을 캐시하지 않는다.
+    private final AtomicLongArray generations = new AtomicLongArray(1 << STRIPE_BITS);
+
+    /**
+     * 캐시된 게시판 상세를 복사해서 반환. 없으면 loader로 읽어서 캐시한다.
+     * 반환값의 countBoardVisit은 loader가 읽은 조회수에 캐시 이후의 조회 횟수(이번 조회 포함)를 더한 값이다.
+     */
+    public BoardResponseDto get(Long boardId, Supplier<BoardResponseDto> loader) {
+        CachedBoard cached = cache.getIfPresent(boardId);
+        if (cached != null) {
+            cached.visitsSinceLoad.increment();
+            return cached.copy();
+        }
+
+        long generation = generations.get(stripe(boardId));
+        BoardResponseDto loaded = loader.get();
+        CachedBoard loadedBoard = new CachedBoard(loaded, new LongAdder());
+        loadedBoard.visitsSinceLoad.increment();
+        cache.put(boardId, loadedBoard);
+        // 무효화는 횟수를 올린 뒤 캐시를 지우므로, 넣은 뒤에 다시 확인하면 오래된 값이 남지 않는다.
+        if (generations.get(stripe(boardId)) != generation) {
+            cache.invalidate(boardId, loadedBoard);
+        }
+        return loadedBoard.copy();
+    }
+
+    public void invalidate(Long boardId) {
+        generations.incrementAndGet(stripe(boardId));
+        cache.invalidate(boardId);
+    }
+
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    @TransactionalEventListener
+    public void onBoardLiked(BoardLikedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    // Snowflake id는 하위 비트가 거의 같으므로 섞어서 나눈다.
+    private static int stripe(Long boardId) {
+        return IdStripes.of(boardId, STRIPE_BITS);
+    }
+
+    // 문자열은 UTF-16 기준 대략적인 바이트 수
+    private static long weigh(CachedBoard cached) {
+        BoardResponseDto board = cached.board;
+        long weight = 256 + 2L * (length(board.getBoardTitle()) + length(board.getBoardContent())
+                + length(board.getAuthorName()) + length(board.getBoardHashtag()));
+        if (board.getPosts() != null) {
+            for (PostResponseDto post : board.getPosts()) {
+                weight += 96 + 2L * length(post.getContent());
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class CachedBoard {
+        private final BoardResponseDto board;
+        private final LongAdder visitsSinceLoad;
+
+        // 요청마다 likedByMe 등을 따로 채우므로 캐시된 객체를 그대로 내보내지 않는다.
+        private BoardResponseDto copy() {
+            return board.toBuilder()
+                    .countBoardVisit((int) (board.getCountBoardVisit() + visitsSinceLoad.sum()))
+                    .build();
+        }
+    }
+}
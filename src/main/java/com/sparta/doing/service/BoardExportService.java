@@ -0,0 +1,133 @@
+package com.sparta.doing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.mysema.commons.lang.CloseableIterator;
+import com.sparta.doing.config.JacksonConfig;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
+import com.sparta.doing.entity.constant.ExportFormat;
+import com.sparta.doing.entity.constant.HashtagMatch;
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시판 목록 내보내기 (NDJSON / CSV)
+ * 목록 프로젝션을 전진 전용 커서로 fetchSize개씩 읽으면서 바로 응답 스트림에 쓴다.
+ * 페이지를 나누거나 결과를 모아 두지 않으므로 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+    private static final String[] CSV_HEADER = {"id", "boardTitle", "authorName", "boardHashtag",
+            "countBoardVisit", "boardLikeCount", "postCount", "createdAt", "userId", "nickname"};
+
+    private final BoardService boardService;
+    private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${board.export.fetch-size:1000}")
+    private int fetchSize;
+    // 이 행 수마다 응답 버퍼를 비워서 클라이언트가 받기 시작할 수 있게 한다.
+    @Value("${board.export.flush-rows:1000}")
+    private int flushRows;
+
+    /**
+     * 검색 조건에 맞는 게시판을 board_id 순서로 output에 쓴다.
+     *
+     * @return 쓴 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportBoards(SearchType searchType,
+                             String searchKeyword,
+                             HashtagMatch hashtagMatch,
+                             ExportFormat format,
+                             OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try (CloseableIterator<BoardListResponseDto> boards = boardRepository.streamList(
+                boardService.searchPredicate(searchType, searchKeyword, hashtagMatch), fetchSize)) {
+            long rowCount = format == ExportFormat.CSV ? writeCsv(boards, writer) : writeNdjson(boards, writer);
+            writer.flush();
+            return rowCount;
+        }
+    }
+
+    private long writeNdjson(CloseableIterator<BoardListResponseDto> boards, Writer writer) throws IOException {
+        long rowCount = 0;
+        // 값 사이에 줄바꿈을 넣는다. 응답 스트림은 컨테이너가 닫으므로 SequenceWriter는 flush만 한다.
+        SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+        while (boards.hasNext()) {
+            sequenceWriter.write(boards.next());
+            if (++rowCount % flushRows == 0) {
+                sequenceWriter.flush();
+            }
+        }
+        sequenceWriter.flush();
+        if (rowCount > 0) {
+            writer.write('\n');
+        }
+        return rowCount;
+    }
+
+    private long writeCsv(CloseableIterator<BoardListResponseDto> boards, Writer writer) throws IOException {
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        long rowCount = 0;
+        while (boards.hasNext()) {
+            BoardListResponseDto board = boards.next();
+            writeCsvRow(writer, board.getId(), board.getBoardTitle(), board.getAuthorName(), board.getBoardHashtag(),
+                    board.getCountBoardVisit(), board.getBoardLikeCount(), board.getPostCount(),
+                    board.getCreatedAt() == null ? null : board.getCreatedAt().format(JacksonConfig.DATE_TIME_FORMATTER),
+                    board.getUserId(), board.getNickname());
+            if (++rowCount % flushRows == 0) {
+                writer.flush();
+            }
+        }
+        return rowCount;
+    }
+
+    // RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고 안의 큰따옴표는 두 번 쓴다.
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            // 유저가 입력한 문자열만 수식 방지 처리 (숫자 컬럼은 그대로 숫자로 읽혀야 한다.)
+            String value = values[i] instanceof String
+                    ? neutralizeFormula((String) values[i]) : values[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // CSV 수식 삽입 방지: 스프레드시트가 수식으로 해석하는 문자로 시작하면 앞에 작은따옴표를 붙여 글자로 읽히게 한다.
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.BoardLikedEvent;
+import com.sparta.doing.repository.BoardLikeRepository;
+import com.sparta.doing.repository.BoardLikeView;
+import com.sparta.doing.util.BoundedCache;
+import com.sparta.doing.util.IdStripes;
+import com.sparta.doing.util.SortedLongSet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시판별 좋아요한 user_id 집합 (정렬된 long 배열)
+ * "내가 좋아요 한 게시판인지"를 게시판마다 BoardLike를 조회하지 않고 메모리에서 확인한다.
+ * 집합은 처음 조회될 때 DB에서 읽어오고, 이후에는 좋아요 이벤트로 갱신한다.
+ * 캐시에 넣은 집합은 바꾸지 않고 복사본을 고쳐서 다시 넣는다. (조회는 잠금 없이 읽고, 캐시 크기도 다시 계산된다.)
+ * user_id가 Snowflake id라서 값이 넓게 흩어지므로 구간별 컨테이너를 두는 압축 비트맵보다 배열이 작다.
+ * 전체 크기가 한도를 넘으면 가장 오래 조회되지 않은 게시판부터 내보낸다.
+ * 집합은 호출한 쪽(목록 조회) 트랜잭션과 별도의 새 트랜잭션에서 읽는다.
+ * (목록 조회가 이미 잡은 REPEATABLE READ 스냅샷으로 읽으면 그 뒤에 커밋된 좋아요가 빠진 집합이 캐시된다.)
+ */
+@Component
+public class BoardLikedUsersStore {
+    private static final long MAX_WEIGHT_BYTES = 32L * 1024 * 1024;
+    // 좋아요 이벤트로 계속 갱신되므로 길게 둔다. (이벤트를 놓친 경우의 안전장치)
+    private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    // 구간 2^6 = 64개
+    private static final int STRIPE_BITS = 6;
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private final BoundedCache<Long, SortedLongSet> likedUsers =
+            new BoundedCache<>(MAX_WEIGHT_BYTES, TTL_MILLIS, BoardLikedUsersStore::weigh);
+    // 게시판 id 구간별 변경 횟수. 집합을 읽어오는 동안 좋아요 변경이 있었으면 캐시하지 않는다.
+    private final AtomicLongArray generations = new AtomicLongArray(1 << STRIPE_BITS);
+
+    public BoardLikedUsersStore(BoardLikeRepository boardLikeRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * boardIds 각각에 대해 userId가 좋아요 했는지 여부
+     * 메모리에 없는 게시판만 한 번의 IN 쿼리로 읽어온다.
+     */
+    public Map<Long, Boolean> likedFlags(Collection<Long> boardIds, Long userId) {
+        Map<Long, Boolean> flags = new HashMap<>();
+        if (userId == null || boardIds.isEmpty()) {
+            boardIds.forEach(boardId -> flags.put(boardId, false));
+            return flags;
+        }
+
+        Set<Long> missing = new HashSet<>();
+        for (Long boardId : boardIds) {
+            SortedLongSet users = likedUsers.getIfPresent(boardId);
+            if (users == null) {
+                missing.add(boardId);
+                continue;
+            }
+            flags.put(boardId, users.contains(userId));
+        }
+        if (!missing.isEmpty()) {
+            flags.putAll(load(missing, userId));
+        }
+        return flags;
+    }
+
+    public boolean isLiked(Long boardId, Long userId) {
+        return likedFlags(List.of(boardId), userId).get(boardId);
+    }
+
+    @TransactionalEventListener
+    public void onBoardLiked(BoardLikedEvent event) {
+        generations.incrementAndGet(stripe(event.getBoardId()));
+        // 같은 게시판의 이벤트가 동시에 오면 먼저 바꾼 쪽의 복사본에서 다시 시작한다.
+        while (true) {
+            SortedLongSet users = likedUsers.getIfPresent(event.getBoardId());
+            if (users == null) {
+                return;
+            }
+            SortedLongSet updated = users.copy();
+            if (event.isLiked()) {
+                updated.add(event.getUserId());
+            } else {
+                updated.remove(event.getUserId());
+            }
+            if (likedUsers.replace(event.getBoardId(), users, updated)) {
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            likedUsers.invalidate(event.getBoardId());
+        }
+    }
+
+    public BoundedCache.Stats stats() {
+        return likedUsers.stats();
+    }
+
+    // 읽어온 집합으로 userId의 좋아요 여부를 구한 뒤에 캐시에 넣는다. (넣은 뒤에는 이벤트가 집합을 바꿀 수 있다.)
+    private Map<Long, Boolean> load(Set<Long> boardIds, Long userId) {
+        Map<Long, Long> generationsBefore = new HashMap<>();
+        Map<Long, SortedLongSet> loaded = new HashMap<>();
+        for (Long boardId : boardIds) {
+            generationsBefore.put(boardId, generations.get(stripe(boardId)));
+            loaded.put(boardId, new SortedLongSet());
+        }
+        // 변경 횟수를 읽은 뒤에 스냅샷을 잡아야 그 사이 커밋된 좋아요가 집합에 들어가거나 변경 횟수에 잡힌다.
+        List<BoardLikeView> views = loadTransaction.execute(status -> boardLikeRepository.findByBoardIds(boardIds));
+        for (BoardLikeView view : views) {
+            loaded.get(view.getBoardId()).add(view.getUserId());
+        }
+
+        Map<Long, Boolean> flags = new HashMap<>();
+        loaded.forEach((boardId, users) -> flags.put(boardId, users.contains(userId)));
+
+        // 조회 중에 커밋된 좋아요 이벤트가 집합에 반영되지 못했을 수 있으므로, 그런 게시판은 이번 응답에만 쓴다.
+        // 이벤트는 변경 횟수를 올린 뒤 집합을 찾으므로, 넣은 뒤에 다시 확인하면 놓치는 이벤트가 없다.
+        loaded.forEach((boardId, users) -> {
+            likedUsers.put(boardId, users);
+            if (generations.get(stripe(boardId)) != generationsBefore.get(boardId)) {
+                likedUsers.invalidate(boardId, users);
+            }
+        });
+        return flags;
+    }
+
+    private static long weigh(SortedLongSet users) {
+        return 64 + users.sizeInBytes();
+    }
+
+    // Snowflake id는 하위 비트가 거의 같으므로 섞어서 나눈다.
+    private static int stripe(Long boardId) {
+        return IdStripes.of(boardId, STRIPE_BITS);
+    }
+}
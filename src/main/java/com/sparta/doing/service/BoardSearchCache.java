@@ -0,0 +1,109 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.entity.constant.HashtagMatch;
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.UserChangedEvent;
+import com.sparta.doing.util.BoundedCache;
+import com.sparta.doing.util.NGramTokenizer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 검색 결과 캐시 (검색 조건 + 정렬 + 페이지 -> 게시판 id 목록, 전체 개수)
+ * 엔티티나 DTO 대신 id만 저장하고, 응답할 때 id로 목록 컬럼을 다시 조회하므로 좋아요 수 등은 항상 최신이다.
+ * 값마다 저장할 때의 쓰기 버전을 붙여 두고, 게시판 생성/수정/삭제나 유저 변경이 커밋되면 버전만 올린다.
+ * 버전이 다른 값은 조회할 때 버린다. (전체를 지우지 않아도 한 번에 무효화된다.)
+ * 버전은 검색 색인(BoardSearchIndex, UserSearchIndex)이 변경을 반영한 뒤에 올린다. (@Order)
+ * 먼저 올리면 새 버전을 읽은 검색이 아직 갱신되지 않은 색인으로 만든 결과를 새 버전으로 캐시할 수 있다.
+ */
+@Component
+public class BoardSearchCache {
+    private static final long MAX_WEIGHT_BYTES = 4L * 1024 * 1024;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    // 이 컬럼으로만 정렬할 때 캐시한다. (조회수/좋아요 수 정렬은 쓰기 없이도 순서가 바뀐다.)
+    private static final Set<String> CACHEABLE_SORT_PROPERTIES = Set.of("createdAt", "id");
+
+    private final BoundedCache<String, CachedPage> cache =
+            new BoundedCache<>(MAX_WEIGHT_BYTES, TTL_MILLIS, BoardSearchCache::weigh);
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    /**
+     * 캐시 키. 캐시할 수 없는 정렬이면 null
+     * 검색어가 없으면 검색 타입과 상관없이 전체 조회 키를 쓴다.
+     */
+    public static String key(SearchType searchType, String searchKeyword, HashtagMatch hashtagMatch,
+                             LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!CACHEABLE_SORT_PROPERTIES.contains(order.getProperty())) {
+                return null;
+            }
+        }
+        String condition = (searchType == null || searchKeyword == null || searchKeyword.isBlank())
+                ? "ALL"
+                : searchType.name() + ":" + hashtagMatch + ":" + NGramTokenizer.normalize(searchKeyword.strip());
+        return condition + "|" + createdFrom + "|" + createdTo + "|" + pageable.getSort()
+                + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize();
+    }
+
+    // 현재 쓰기 버전. 검색 쿼리를 실행하기 전에 읽어서 put에 넘긴다.
+    public long writeVersion() {
+        return writeVersion.get();
+    }
+
+    // 저장 이후 쓰기가 없었던 값만 반환
+    public CachedPage get(String key) {
+        long currentVersion = writeVersion.get();
+        return cache.getIfPresent(key, cached -> cached.version == currentVersion);
+    }
+
+    /**
+     * @param version 검색 쿼리 실행 전에 읽은 writeVersion()
+     *                (조회 도중 쓰기가 커밋되었으면 다음 조회 때 버전이 달라서 버려진다.)
+     */
+    public void put(String key, long version, List<Long> boardIds, long totalElements) {
+        cache.put(key, new CachedPage(List.copyOf(boardIds), totalElements, version));
+    }
+
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        writeVersion.incrementAndGet();
+    }
+
+    // 아이디/닉네임 검색 결과가 바뀔 수 있다.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        writeVersion.incrementAndGet();
+    }
+
+    private static long weigh(CachedPage cached) {
+        return 128 + 16L * cached.boardIds.size();
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CachedPage {
+        private final List<Long> boardIds;
+        private final long totalElements;
+        private final long version;
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.BoardTextView;
+import com.sparta.doing.util.InvertedIndex;
+import com.sparta.doing.util.NGramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시판 제목/내용 검색용 메모리 역색인 (2-gram)
+ * LIKE '%검색어%'는 인덱스를 탈 수 없어 매번 풀스캔이 발생하므로,
+ * posting list로 후보 board_id를 먼저 구하고 DB에서는 해당 id의 페이지만 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+    private static final int GRAM_SIZE = 2;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    // 후보가 이보다 많으면 IN 절이 커져서 오히려 느려지므로 LIKE 검색으로 넘긴다.
+    private static final int MAX_CANDIDATES = 1000;
+
+    private final BoardRepository boardRepository;
+
+    private final InvertedIndex titleIndex = new InvertedIndex();
+    private final InvertedIndex contentIndex = new InvertedIndex();
+    private volatile boolean ready = false;
+
+    // 서버 시작 시 DB의 게시판으로 인덱스를 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        titleIndex.clear();
+        contentIndex.clear();
+
+        long lastId = 0L;
+        List<BoardTextView> chunk;
+        do {
+            chunk = boardRepository.findTextChunk(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (BoardTextView view : chunk) {
+                index(view.getId(), view.getBoardTitle(), view.getBoardContent());
+                lastId = view.getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("게시판 검색 인덱스 구성 완료: {}건", titleIndex.documentCount());
+    }
+
+    // 트랜잭션 커밋 이후에만 인덱스에 반영
+    // 검색 결과 캐시의 버전을 올리기(BoardSearchCache) 전에 색인부터 반영한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            titleIndex.remove(event.getBoardId());
+            contentIndex.remove(event.getBoardId());
+            return;
+        }
+        index(event.getBoardId(), event.getBoardTitle(), event.getBoardContent());
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 board_id 후보(최신순)
+     * 인덱스로 답할 수 없는 경우(1글자 검색어, 인덱스 구성 전, 후보 과다)는 Optional.empty()
+     * n-gram 교집합은 상위집합이므로 최종 일치 여부는 호출하는 쪽에서 다시 확인해야 한다.
+     */
+    public Optional<List<Long>> search(SearchType searchType, String keyword) {
+        if (!ready || !NGramTokenizer.isIndexable(keyword, GRAM_SIZE)) {
+            return Optional.empty();
+        }
+        InvertedIndex index;
+        if (searchType == SearchType.TITLE) {
+            index = titleIndex;
+        } else if (searchType == SearchType.CONTENT) {
+            index = contentIndex;
+        } else {
+            return Optional.empty();
+        }
+
+        List<Long> candidates = index.intersect(NGramTokenizer.ngrams(keyword, GRAM_SIZE));
+        if (candidates.size() > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates);
+    }
+
+    private void index(Long boardId, String boardTitle, String boardContent) {
+        Set<String> titleGrams = NGramTokenizer.ngrams(boardTitle, GRAM_SIZE);
+        Set<String> contentGrams = NGramTokenizer.ngrams(boardContent, GRAM_SIZE);
+        titleIndex.put(boardId, titleGrams);
+        contentIndex.put(boardId, contentGrams);
+    }
+}
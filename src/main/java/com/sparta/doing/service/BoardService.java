@@ -1,60 +1,257 @@
 package com.sparta.doing.service;
 
-import com.sparta.doing.controller.dto.BoardDto;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.sparta.doing.controller.dto.BoardCursor;
 import com.sparta.doing.controller.requestdto.BoardRequestDto;
 import com.sparta.doing.controller.requestdto.PostRequestDto;
+import com.sparta.doing.controller.responsedto.BoardCursorResponseDto;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
 import com.sparta.doing.controller.responsedto.BoardResponseDto;
+import com.sparta.doing.controller.responsedto.PostCursorResponseDto;
+import com.sparta.doing.controller.responsedto.PostResponseDto;
 import com.sparta.doing.entity.Board;
 import com.sparta.doing.entity.BoardLike;
 import com.sparta.doing.entity.PostEntity;
 import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.entity.constant.HashtagMatch;
 import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.BoardLikedEvent;
+import com.sparta.doing.event.BoardVisitedEvent;
+import com.sparta.doing.event.PostCreatedEvent;
 import com.sparta.doing.exception.BoardNotFoundException;
 import com.sparta.doing.repository.BoardLikeRepository;
 import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.PostRepository;
 import com.sparta.doing.repository.UserRepository;
+import com.sparta.doing.util.HashtagParser;
 import com.sparta.doing.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.sparta.doing.entity.QBoard.board;
+import static com.sparta.doing.entity.QBoardHashtag.boardHashtag;
 
 @Transactional
 @RequiredArgsConstructor
 @Service
 public class BoardService {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int DEFAULT_POST_PAGE_SIZE = 20;
+    private static final int MAX_LIKE_ATTEMPTS = 10;
+
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final BoardLikeRepository boardLikeRepository;
+    private final PostRepository postRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final BoardCountCache boardCountCache;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardLikedUsersStore boardLikedUsersStore;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchCache boardSearchCache;
+    private final BoardVersionRegistry boardVersionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 목록은 Board 엔티티 대신 프로젝션으로 조회 (users 조인 1번, 게시글은 조회하지 않음)
+    @Transactional(readOnly = true)
+    public Page<BoardListResponseDto> searchBoards(SearchType searchType,
+                                                   String searchKeyword,
+                                                   HashtagMatch hashtagMatch,
+                                                   LocalDateTime createdFrom,
+                                                   LocalDateTime createdTo,
+                                                   Pageable pageable) {
+        // 같은 검색이면 캐시된 id 목록으로 PK 조회만 한다.
+        String cacheKey = BoardSearchCache.key(searchType, searchKeyword, hashtagMatch, createdFrom, createdTo, pageable);
+        BoardSearchCache.CachedPage cached = cacheKey == null ? null : boardSearchCache.get(cacheKey);
+        if (cached != null) {
+            List<BoardListResponseDto> content = boardRepository.findListByIds(cached.getBoardIds());
+            markLikedByMe(content);
+            return new PageImpl<>(content, pageable, cached.getTotalElements());
+        }
+
+        // 제목/내용은 역색인, 아이디/닉네임은 3-gram 인덱스, 해시태그는 board_hashtag 인덱스로 조회
+        long writeVersion = boardSearchCache.writeVersion();
+        Predicate predicate = ExpressionUtils.allOf(
+                searchPredicate(searchType, searchKeyword, hashtagMatch), createdBetween(createdFrom, createdTo));
+        Page<BoardListResponseDto> boards = boardRepository.findListPage(predicate, pageable);
+        if (cacheKey != null) {
+            boardSearchCache.put(cacheKey, writeVersion,
+                    boards.getContent().stream().map(BoardListResponseDto::getId).collect(Collectors.toList()),
+                    boards.getTotalElements());
+        }
+        markLikedByMe(boards.getContent());
+        return boards;
+    }
+
+    // 여러 조건을 조합한 검색 (BoardRepository의 Querydsl 바인딩으로 만든 Predicate 하나로 조회)
+    // 목록과 같은 프로젝션을 사용한다. 조건이 없으면 predicate는 null(전체 조회)
+    @Transactional(readOnly = true)
+    public Page<BoardListResponseDto> searchBoardsByPredicate(Predicate predicate, Pageable pageable) {
+        Page<BoardListResponseDto> boards = boardRepository.findListPage(predicate, pageable);
+        markLikedByMe(boards.getContent());
+        return boards;
+    }
+
+    // COUNT 쿼리 없이 조회하는 Slice 모드
+    @Transactional(readOnly = true)
+    public Slice<BoardListResponseDto> searchBoardSlice(SearchType searchType,
+                                                        String searchKeyword,
+                                                        HashtagMatch hashtagMatch,
+                                                        Pageable pageable) {
+        Slice<BoardListResponseDto> boards =
+                boardRepository.findSlice(searchPredicate(searchType, searchKeyword, hashtagMatch), pageable);
+        markLikedByMe(boards.getContent());
+        return boards;
+    }
+
+    // 페이지네이션 바에 쓸 대략적인 게시판 수 (캐시, 비동기 갱신)
+    @Transactional(readOnly = true)
+    public long countBoardsApproximately(SearchType searchType,
+                                         String searchKeyword,
+                                         HashtagMatch hashtagMatch) {
+        Predicate predicate = searchPredicate(searchType, searchKeyword, hashtagMatch);
+        return boardCountCache.get(
+                BoardCountCache.key(searchType, searchKeyword, hashtagMatch),
+                () -> predicate == null ? boardRepository.count() : boardRepository.count(predicate));
+    }
 
+    // 커서 기반 페이지네이션
+    // OFFSET/COUNT 없이 (createdAt, board_id) 위치부터 읽으므로 몇 번째 페이지든 비용이 같다.
     @Transactional(readOnly = true)
-    public Page<BoardDto> searchBoards(SearchType searchType,
-                                       String searchKeyword,
-                                       Pageable pageable) {
-        if (searchKeyword == null || searchKeyword.isBlank()) {
-            return boardRepository.findAll(pageable).map(BoardDto::from);
+    public BoardCursorResponseDto scrollBoards(SearchType searchType,
+                                               String searchKeyword,
+                                               HashtagMatch hashtagMatch,
+                                               LocalDateTime createdFrom,
+                                               LocalDateTime createdTo,
+                                               String cursor,
+                                               int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        BoardCursor boardCursor = (cursor == null || cursor.isBlank()) ? null : BoardCursor.decode(cursor);
+        boolean backward = boardCursor != null && boardCursor.isPrev();
+
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<BoardListResponseDto> boards = new ArrayList<>(
+                boardRepository.findByKeyset(ExpressionUtils.allOf(
+                        searchPredicate(searchType, searchKeyword, hashtagMatch), createdBetween(createdFrom, createdTo)),
+                        boardCursor, pageSize + 1));
+        boolean hasMore = boards.size() > pageSize;
+        if (hasMore) {
+            boards = new ArrayList<>(boards.subList(0, pageSize));
         }
-        if (searchType.equals(SearchType.TITLE)) {
-            return boardRepository.findByBoardTitleContaining(searchKeyword, pageable).map(BoardDto::from);
+        if (backward) {
+            Collections.reverse(boards);
         }
-        if (searchType.equals(SearchType.CONTENT)) {
-            return boardRepository.findByBoardContentContaining(searchKeyword, pageable).map(BoardDto::from);
+        markLikedByMe(boards);
+
+        String next = null;
+        String prev = null;
+        if (!boards.isEmpty()) {
+            BoardListResponseDto first = boards.get(0);
+            BoardListResponseDto last = boards.get(boards.size() - 1);
+            if (backward) {
+                prev = hasMore ? BoardCursor.prev(first).encode() : null;
+                next = BoardCursor.next(last).encode();
+            } else {
+                next = hasMore ? BoardCursor.next(last).encode() : null;
+                prev = boardCursor != null ? BoardCursor.prev(first).encode() : null;
+            }
         }
-        if (searchType.equals(SearchType.ID)) {
-            return boardRepository.findByUserEntity_UsernameContaining(searchKeyword, pageable).map(BoardDto::from);
+
+        return BoardCursorResponseDto.builder()
+                .boards(boards)
+                .next(next)
+                .prev(prev)
+                .build();
+    }
+
+    // 로그인한 유저면 페이지의 게시판들에 좋아요 여부를 표시 (좋아요 비트맵에서 한 번에 확인)
+    private void markLikedByMe(List<BoardListResponseDto> boards) {
+        SecurityUtil.findCurrentUserId().ifPresent(userId -> {
+            Map<Long, Boolean> likedFlags = boardLikedUsersStore.likedFlags(
+                    boards.stream().map(BoardListResponseDto::getId).collect(Collectors.toList()), userId);
+            boards.forEach(board -> board.setLikedByMe(likedFlags.get(board.getId())));
+        });
+    }
+
+    // searchBoards의 검색 조건을 Querydsl Predicate로 변환. 검색어가 없으면 null(전체 조회)
+    // 내보내기(BoardExportService)에서도 같은 조건을 쓴다.
+    public Predicate searchPredicate(SearchType searchType, String searchKeyword, HashtagMatch hashtagMatch) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
         }
-        if (searchType.equals(SearchType.NICKNAME)) {
-            return boardRepository.findByUserEntity_NicknameContaining(searchKeyword, pageable).map(BoardDto::from);
+        switch (searchType) {
+            case TITLE:
+                // n-gram 후보는 상위집합이므로 후보 id 안에서 한 번 더 확인
+                return boardSearchIndex.search(SearchType.TITLE, searchKeyword)
+                        .map(ids -> board.id.in(ids).and(board.boardTitle.contains(searchKeyword)))
+                        .orElseGet(() -> board.boardTitle.contains(searchKeyword));
+            case CONTENT:
+                return boardSearchIndex.search(SearchType.CONTENT, searchKeyword)
+                        .map(ids -> board.id.in(ids).and(board.boardContent.contains(searchKeyword)))
+                        .orElseGet(() -> board.boardContent.contains(searchKeyword));
+            case ID:
+                return userSearchIndex.search(SearchType.ID, searchKeyword)
+                        .map(userIds -> board.userEntity.id.in(userIds))
+                        .orElseGet(() -> board.userEntity.username.contains(searchKeyword));
+            case NICKNAME:
+                return userSearchIndex.search(SearchType.NICKNAME, searchKeyword)
+                        .map(userIds -> board.userEntity.id.in(userIds))
+                        .orElseGet(() -> board.userEntity.nickname.contains(searchKeyword));
+            case HASHTAG:
+                return hashtagPredicate(searchKeyword, hashtagMatch);
+            default:
+                return null;
         }
-        if (searchType.equals(SearchType.HASHTAG)) {
-            return boardRepository.findByBoardHashtagContaining("#" + searchKeyword, pageable).map(BoardDto::from);
+    }
+
+    // 작성 시각 기간 조건 [createdFrom, createdTo). createdAt 인덱스 범위 탐색으로 처리된다. 둘 다 없으면 null
+    private Predicate createdBetween(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return ExpressionUtils.allOf(
+                createdFrom == null ? null : board.createdAt.goe(createdFrom),
+                createdTo == null ? null : board.createdAt.lt(createdTo));
+    }
+
+    // board_hashtag의 (tag, board_id) 인덱스로 태그가 정확히 일치하는 게시판만 조회
+    // ANY: 태그 중 하나라도 포함, ALL: 모든 태그 포함
+    private Predicate hashtagPredicate(String searchKeyword, HashtagMatch hashtagMatch) {
+        Set<String> tags = HashtagParser.parseQuery(searchKeyword);
+        JPQLQuery<Long> matchedBoardIds = JPAExpressions
+                .select(boardHashtag.board.id)
+                .from(boardHashtag)
+                .where(boardHashtag.tag.in(tags));
+        if (hashtagMatch == HashtagMatch.ALL && tags.size() > 1) {
+            matchedBoardIds = matchedBoardIds
+                    .groupBy(boardHashtag.board.id)
+                    .having(boardHashtag.count().eq((long) tags.size()));
         }
-        return boardRepository.findAll(pageable).map(BoardDto::from);
+        return board.id.in(matchedBoardIds);
     }
 
     public BoardResponseDto createBoard(BoardRequestDto boardRequestDto, Long userId) {
@@ -69,21 +266,56 @@ public class BoardService {
                 .build();
 
         createdBoard.mapToUserEntity(foundUserEntity);
+        createdBoard.updateHashtags();
+
+        Board savedBoard = boardRepository.save(createdBoard);
+        eventPublisher.publishEvent(BoardChangedEvent.created(savedBoard));
 
-        return BoardResponseDto.from(boardRepository.save(createdBoard));
+        return BoardResponseDto.from(savedBoard);
     }
 
     // 특정 게시판 내용 반환
+    // 캐시에 있으면 DB를 거치지 않도록 트랜잭션 없이 실행 (캐시 미스 시 조회 쿼리는 각각 읽기 전용으로 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BoardResponseDto getOneBoardWithComments(Long boardId) {
+        BoardResponseDto boardResponseDto = boardDetailCache.get(boardId, () -> loadBoardDetail(boardId));
+        recordVisit(boardId, boardResponseDto.getBoardTitle());
+        SecurityUtil.findCurrentUserId().ifPresent(userId ->
+                boardResponseDto.setLikedByMe(boardLikedUsersStore.isLiked(boardId, userId)));
+        return boardResponseDto;
+    }
+
+    // 조회수 증가 (board 행을 UPDATE하지 않고 메모리에 누적 후 주기적으로 반영)
+    // 304 응답처럼 본문 없이 조회한 경우 boardTitle은 null
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordVisit(Long boardId, String boardTitle) {
+        boardViewCounter.increment(boardId);
+        eventPublisher.publishEvent(BoardVisitedEvent.of(boardId, boardTitle));
+    }
+
+    // 게시판 상세 ETag (PK로 버전 컬럼만 조회)
+    @Transactional(readOnly = true)
+    public String getBoardETag(Long boardId) {
+        return boardVersionRegistry.boardETag(boardId, SecurityUtil.findCurrentUserId().orElse(null));
+    }
+
+    // 게시판 목록 ETag (DB 조회 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getBoardListETag(String query) {
+        return boardVersionRegistry.listETag(query, SecurityUtil.findCurrentUserId().orElse(null));
+    }
+
+    private BoardResponseDto loadBoardDetail(Long boardId) {
         // db에서 게시판 검색
         Board getOneBoard = boardRepository.findById(boardId)
                 .orElseThrow(
                         () -> new BoardNotFoundException(
                                 "해당 게시판은 존재하지 않습니다."));
-        // 조회수 증가
-        getOneBoard.visit();
-        // 반환
-        return BoardResponseDto.from(getOneBoard);
+        // 반환 (게시글은 첫 페이지만)
+        BoardResponseDto boardResponseDto = BoardResponseDto.from(getOneBoard, findPosts(boardId, null, DEFAULT_POST_PAGE_SIZE));
+        boardResponseDto.setCountBoardVisit(
+                (int) (getOneBoard.getCountBoardVisit() + boardViewCounter.pendingCount(boardId)));
+        return boardResponseDto;
     }
 
     public void updateBoard(Long boardId, BoardRequestDto
@@ -95,6 +327,8 @@ public class BoardService {
         if (!Objects.equals(foundBoardToUpdate.getUserEntity().getId(), SecurityUtil.getCurrentUserIdByLong())) {
             throw new BoardNotFoundException("본인이 작성한 게시판만 수정이 가능합니다.");
         }
+        foundBoardToUpdate.update(boardRequestDto);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(foundBoardToUpdate));
     }
 
     public void deleteBoard(Long boardId, Long userId) {
@@ -105,41 +339,43 @@ public class BoardService {
         if (!Objects.equals(foundBoardToDelete.getUserEntity().getId(), SecurityUtil.getCurrentUserIdByLong())) {
             throw new BoardNotFoundException("본인이 작성한 게시판만 삭제가 가능합니다.");
         }
+        boardRepository.delete(foundBoardToDelete);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(foundBoardToDelete));
     }
 
-    public void boardLike(Long boardId, String userId) {
-        Board foundBoardToLike = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글은 존재하지 않습니다."));
-        UserEntity foundUserEntity = userRepository.findByUsername(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("게시판 작성 권한이 없습니다."));
-
-        Optional<BoardLike> boardLikeFoundInRepo = boardLikeRepository.findByBoardAndUserEntity(foundBoardToLike, foundUserEntity);
-
-        boardLikeFoundInRepo.ifPresentOrElse(
-                boardLike -> {
-                    foundBoardToLike.discountLike(boardLike);
-                    foundBoardToLike.updateLikeCount();
-                    boardLikeRepository.delete(boardLike);
-                },
-                () -> {
-                    BoardLike boardLike = BoardLike.builder().build();
-                    boardLike.mapToBoard(foundBoardToLike);
-                    boardLike.mapToUserEntity(foundUserEntity);
-                    foundBoardToLike.updateLikeCount();
-                    boardLikeRepository.save(boardLike);
+    // 좋아요 토글. 좋아요가 추가되면 true, 취소되면 false
+    // board.boardLikeList를 읽지 않고 (board_id, user_id) 유니크 인덱스에 대한 DELETE/INSERT와
+    // boardLikeCount 상대값 UPDATE만 실행한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean boardLike(Long boardId, Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> toggleLike(boardId, userId)));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                // 같은 유저의 동시 요청이 먼저 INSERT했거나 데드락으로 롤백된 경우.
+                // 새 트랜잭션에서 다시 시도하면 상대가 커밋한 상태 기준으로 토글된다.
+                if (attempt >= MAX_LIKE_ATTEMPTS) {
+                    throw e;
                 }
-        );
-//        if(boardLikeFoundInRepo.isPresent()){
-//            foundBoardToLike.discountLike(boardLikeFoundInRepo.get());
-//            foundBoardToLike.updateLikeCount();
-//            boardLikeRepository.delete(boardLikeFoundInRepo.get());
-//        } else {
-//            boardLike.mapToContent(foundBoardToLike);
-//            boardLike.mapToUser(foundUserEntity);
-//            foundBoardToLike.updateLikeCount();
-//            boardLikeRepository.save(boardLike);
-//        }
+            }
+        }
+    }
 
+    private boolean toggleLike(Long boardId, Long userId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BoardNotFoundException("해당 게시글은 존재하지 않습니다.");
+        }
+        if (boardLikeRepository.deleteByBoardIdAndUserId(boardId, userId) > 0) {
+            boardRepository.addLikeCount(boardId, -1);
+            eventPublisher.publishEvent(BoardLikedEvent.of(boardId, userId, false));
+            return false;
+        }
+        boardLikeRepository.saveAndFlush(BoardLike.of(
+                boardRepository.getReferenceById(boardId),
+                userRepository.getReferenceById(userId)));
+        boardRepository.addLikeCount(boardId, 1);
+        eventPublisher.publishEvent(BoardLikedEvent.of(boardId, userId, true));
+        return true;
     }
 
     public BoardResponseDto createPost(Long boardId, PostRequestDto postRequestDto) {
@@ -152,16 +388,34 @@ public class BoardService {
             throw new BoardNotFoundException("본인이 작성한 게시판에만 글 작성이 가능합니다.");
         }
 
-        board.mapToPost(PostEntity.of(postRequestDto, board));
+        PostEntity postEntity = PostEntity.of(postRequestDto, board);
+        board.mapToPost(postEntity);
+        postRepository.save(postEntity);
+        eventPublisher.publishEvent(PostCreatedEvent.of(boardId, postEntity.getId()));
 
-        return BoardResponseDto.from(board);
+        return BoardResponseDto.from(board, findPosts(boardId, null, DEFAULT_POST_PAGE_SIZE));
     }
 
-    // public List<PostResponseDto> getPosts(Long boardId) {
-    //     var board = boardRepository.findById(boardId)
-    //             .orElseThrow(
-    //                     () -> new BoardNotFoundException(
-    //                             boardId + ": 해당 게시판을 찾을 수 없습니다."));
-    //     return
-    // }
+    // 게시판의 게시글 목록 (post_id 키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public PostCursorResponseDto getPosts(Long boardId, Long cursor, int size) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BoardNotFoundException(boardId + ": 해당 게시판을 찾을 수 없습니다.");
+        }
+        return findPosts(boardId, cursor, Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+    }
+
+    private PostCursorResponseDto findPosts(Long boardId, Long cursor, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<PostEntity> posts = postRepository.findPage(
+                boardId, cursor == null ? 0L : cursor, PageRequest.of(0, size + 1));
+        boolean hasMore = posts.size() > size;
+        if (hasMore) {
+            posts = posts.subList(0, size);
+        }
+        return PostCursorResponseDto.builder()
+                .posts(posts.stream().map(PostResponseDto::from).collect(Collectors.toList()))
+                .next(hasMore ? posts.get(posts.size() - 1).getId() : null)
+                .build();
+    }
 }
@@ -0,0 +1,136 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.controller.responsedto.SuggestionResponseDto;
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.BoardTextView;
+import com.sparta.doing.util.HashtagParser;
+import com.sparta.doing.util.NGramTokenizer;
+import com.sparta.doing.util.WeightedRadixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그/제목 단어 자동완성 (GET /boards/suggest)
+ * 태그와 제목 단어마다 그 단어가 들어간 게시판 수를 가중치로 압축 트라이에 저장한다.
+ * 서버 시작 시 DB에서 구성하고, 이후에는 게시판 변경 이벤트로 바뀐 단어만 증감한다. (조회 시 DB 접근 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSuggestService {
+    public static final int MAX_SUGGESTIONS = 20;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    // 너무 긴 단어는 자동완성 대상에서 제외 (URL 등)
+    private static final int MAX_TERM_LENGTH = 30;
+
+    private final BoardRepository boardRepository;
+
+    private final WeightedRadixTrie hashtagTrie = new WeightedRadixTrie();
+    private final WeightedRadixTrie titleTrie = new WeightedRadixTrie();
+    // 수정/삭제 시 이전 단어의 가중치를 빼기 위한 게시판별 단어 목록
+    private final Map<Long, Set<String>> boardHashtags = new HashMap<>();
+    private final Map<Long, Set<String>> boardTitleTerms = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        hashtagTrie.clear();
+        titleTrie.clear();
+        boardHashtags.clear();
+        boardTitleTerms.clear();
+
+        long lastId = 0L;
+        List<BoardTextView> chunk;
+        do {
+            chunk = boardRepository.findTextChunk(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (BoardTextView view : chunk) {
+                index(view.getId(), view.getBoardTitle(), view.getBoardHashtag());
+                lastId = view.getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        log.info("자동완성 트라이 구성 완료: 해시태그 {}개, 제목 단어 {}개", hashtagTrie.size(), titleTrie.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            replace(hashtagTrie, boardHashtags, event.getBoardId(), Set.of());
+            replace(titleTrie, boardTitleTerms, event.getBoardId(), Set.of());
+            return;
+        }
+        index(event.getBoardId(), event.getBoardTitle(), event.getBoardHashtag());
+    }
+
+    /**
+     * prefix로 시작하는 해시태그/제목 단어를 게시판 수가 많은 순서로 최대 size개
+     * 두 트라이에서 각각 size개를 가져와서 합친다.
+     */
+    public List<SuggestionResponseDto> suggest(String prefix, int size) {
+        int limit = Math.max(0, Math.min(size, MAX_SUGGESTIONS));
+        String normalizedPrefix = prefix == null ? "" : NGramTokenizer.normalize(prefix.strip());
+        if (normalizedPrefix.startsWith("#")) {
+            normalizedPrefix = normalizedPrefix.substring(1);
+        }
+        if (normalizedPrefix.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        List<SuggestionResponseDto> suggestions = new ArrayList<>(limit * 2);
+        hashtagTrie.complete(normalizedPrefix, limit).forEach(completion ->
+                suggestions.add(toDto(completion, SearchType.HASHTAG)));
+        titleTrie.complete(normalizedPrefix, limit).forEach(completion ->
+                suggestions.add(toDto(completion, SearchType.TITLE)));
+        suggestions.sort(Comparator.comparingLong(SuggestionResponseDto::getFrequency).reversed());
+        return suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    private void index(Long boardId, String boardTitle, String boardHashtag) {
+        replace(hashtagTrie, boardHashtags, boardId, filter(HashtagParser.parse(boardHashtag)));
+        replace(titleTrie, boardTitleTerms, boardId, filter(NGramTokenizer.words(boardTitle)));
+    }
+
+    // 이전 단어와 비교해서 빠진 단어는 -1, 새 단어는 +1
+    private static void replace(WeightedRadixTrie trie, Map<Long, Set<String>> boardTerms,
+                                Long boardId, Set<String> terms) {
+        Set<String> previous = boardTerms.getOrDefault(boardId, Set.of());
+        for (String term : previous) {
+            if (!terms.contains(term)) {
+                trie.add(term, -1);
+            }
+        }
+        for (String term : terms) {
+            if (!previous.contains(term)) {
+                trie.add(term, 1);
+            }
+        }
+        if (terms.isEmpty()) {
+            boardTerms.remove(boardId);
+        } else {
+            boardTerms.put(boardId, terms);
+        }
+    }
+
+    private static Set<String> filter(Collection<String> terms) {
+        return terms.stream()
+                .filter(term -> term.length() <= MAX_TERM_LENGTH)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static SuggestionResponseDto toDto(WeightedRadixTrie.Completion completion, SearchType searchType) {
+        return SuggestionResponseDto.builder()
+                .term(completion.getTerm())
+                .searchType(searchType)
+                .frequency(completion.getWeight())
+                .build();
+    }
+}
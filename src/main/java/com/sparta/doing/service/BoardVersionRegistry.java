@@ -0,0 +1,88 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.BoardLikedEvent;
+import com.sparta.doing.event.PostCreatedEvent;
+import com.sparta.doing.event.UserChangedEvent;
+import com.sparta.doing.exception.BoardNotFoundException;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.BoardVersionView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 상세/목록 ETag 계산
+ * 상세: modifiedAt + 좋아요 수 + 게시글 수 (PK로 세 컬럼만 조회)
+ * 목록: 게시판/게시글/좋아요/유저 변경 시 올라가는 contentVersion + 조회수 반영 시 올라가는 viewVersion
+ * 버전은 서버 시작 시각에서 시작해서 재시작 후에도 이전 ETag와 겹치지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardVersionRegistry {
+    private final BoardRepository boardRepository;
+
+    private final AtomicLong contentVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong viewVersion = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * 게시판 상세 ETag
+     * 조회수는 조회할 때마다 바뀌므로 버전에 넣지 않고, 그래서 약한(W/) ETag를 쓴다.
+     *
+     * @param userId 로그인한 유저 (likedByMe가 유저마다 다르므로 ETag에 포함), 비로그인이면 null
+     */
+    public String boardETag(Long boardId, Long userId) {
+        BoardVersionView version = boardRepository.findVersionById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("해당 게시판은 존재하지 않습니다."));
+        return "W/\"" + boardId + "-" + digest(version.getModifiedAt() + "|" + version.getBoardLikeCount()
+                + "|" + version.getPostCount() + "|" + userId) + "\"";
+    }
+
+    /**
+     * 게시판 목록 ETag
+     *
+     * @param query 목록 요청의 쿼리 스트링 (검색 조건, 페이지, 정렬)
+     */
+    public String listETag(String query, Long userId) {
+        return "\"" + digest(contentVersion.get() + "|" + viewVersion.get() + "|" + query + "|" + userId) + "\"";
+    }
+
+    // 조회수를 제외한 게시판 내용 버전 (검색 결과 캐시 등에서 사용)
+    public long contentVersion() {
+        return contentVersion.get();
+    }
+
+    // 버퍼에 쌓인 조회수가 DB에 반영되었을 때 (목록의 조회수가 바뀜)
+    public void onViewsFlushed() {
+        viewVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        contentVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBoardLiked(BoardLikedEvent event) {
+        contentVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        contentVersion.incrementAndGet();
+    }
+
+    // 목록에 닉네임이 나오므로 유저 정보 변경도 반영
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        contentVersion.incrementAndGet();
+    }
+
+    private static String digest(String value) {
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
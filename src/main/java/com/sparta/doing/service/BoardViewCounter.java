@@ -0,0 +1,92 @@
+package com.sparta.doing.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시판 조회수 write-behind 버퍼
+ * 조회할 때마다 board 행을 UPDATE하면 인기 게시판의 행 락에서 조회 요청이 줄을 서므로,
+ * 메모리의 LongAdder에 누적해두고 주기적으로 한 번의 batch UPDATE로 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCounter {
+    private static final String FLUSH_SQL =
+            "UPDATE board SET count_board_visit = count_board_visit + ? WHERE board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardVersionRegistry boardVersionRegistry;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 지난 flush에서 맵에서 뺀 카운터. 제거 직전에 카운터를 가져간 요청의 증가분을 다음 flush에서 마저 센다.
+    private final List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    public void increment(Long boardId) {
+        pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pendingCount(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            addDelta(deltas, entry.getKey(), entry.getValue().sumThenReset());
+        }
+        retired.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                addDelta(deltas, entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 조회가 없던 게시판은 맵에서 제거
+                retired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> batchArgs.add(new Object[]{delta, boardId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            boardVersionRegistry.onViewsFlushed();
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 버리지 않고 다음 flush에서 다시 시도
+            log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. 게시판 {}개", deltas.size(), e);
+            deltas.forEach((boardId, delta) ->
+                    pending.computeIfAbsent(boardId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    // 종료 시 남은 조회수를 모두 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+        flush();
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long boardId, long delta) {
+        if (delta > 0) {
+            deltas.merge(boardId, delta, Long::sum);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -16,7 +17,7 @@ import java.util.Collections;
 
 @Component("userDetailsService")
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
@@ -30,6 +31,24 @@ public class CustomUserDetailsService implements UserDetailsService {
                 );
     }
 
+    /**
+     * 로그인 성공 후 저장된 해시의 BCrypt cost가 현재 설정보다 낮을 때 DaoAuthenticationProvider가 호출한다.
+     * (newPassword는 현재 cost로 다시 해시한 값)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return userRepository.findByUsername(user.getUsername())
+                .map(userEntity -> {
+                    userEntity.updatePassword(newPassword);
+                    return createUser(user.getUsername(), userEntity);
+                })
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        user.getUsername() +
+                                "이 DB에 존재하지 않습니다.")
+                );
+    }
+
     // DB 에 User 값이 존재한다면 UserDetails 객체로 만들어서 리턴
     private CustomUserDetails createUser(String username, UserEntity user) {
         GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(user.getAuthority().toString());
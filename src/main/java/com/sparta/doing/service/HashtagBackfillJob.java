@@ -0,0 +1,52 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 게시판의 boardHashtag 문자열을 board_hashtag 테이블로 옮기는 배치
+ * 서버 시작 시 한 번 실행되며, 이미 옮겨진 게시판은 건너뛰므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagBackfillJob {
+    private static final int CHUNK_SIZE = 200;
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        long filled = 0L;
+        while (true) {
+            final long afterId = lastId;
+            // 청크 단위로 트랜잭션을 나눠서 긴 트랜잭션/락을 피한다.
+            List<Long> processedIds = transactionTemplate.execute(status -> {
+                List<Board> chunk = boardRepository.findHashtagBackfillChunk(afterId, PageRequest.of(0, CHUNK_SIZE));
+                chunk.forEach(Board::updateHashtags);
+                return chunk.stream().map(Board::getId).collect(Collectors.toList());
+            });
+            if (processedIds == null || processedIds.isEmpty()) {
+                break;
+            }
+            filled += processedIds.size();
+            lastId = processedIds.get(processedIds.size() - 1);
+            if (processedIds.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        log.info("해시태그 백필 완료: {}건", filled);
+    }
+}
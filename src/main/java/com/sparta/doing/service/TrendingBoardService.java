@@ -0,0 +1,244 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.controller.responsedto.TrendingBoardResponseDto;
+import com.sparta.doing.event.BoardChangedEvent;
+import com.sparta.doing.event.BoardLikedEvent;
+import com.sparta.doing.event.BoardVisitedEvent;
+import com.sparta.doing.event.PostCreatedEvent;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.BoardTrendingView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시판 (시간 감쇠 점수 + top-K 힙)
+ * 조회/좋아요/게시글 작성마다 가중치를 더하고, 점수는 반감기마다 절반으로 줄어든다.
+ * 모든 점수를 매번 줄이는 대신 기준 시각(referenceTime)으로 환산한 값을 저장한다.
+ * (지금 더하는 가중치에 exp(λ(now - referenceTime))를 곱하면 점수끼리 그대로 비교할 수 있다.)
+ * 상위 K개는 최소 힙으로 관리하고, 점수가 바뀐 게시판만 힙에 다시 넣는다.
+ * 조회 이벤트는 요청 스레드에서 게시판별 DoubleAdder에 더하기만 하고(락 없음),
+ * 짧은 주기로 모아서 점수와 힙에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingBoardService {
+    public static final int TOP_K = 100;
+    private static final double VISIT_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double POST_WEIGHT = 3.0;
+    private static final double DECAY_RATE = Math.log(2) / TimeUnit.HOURS.toMillis(6);
+    // 현재 시각 기준 점수가 이보다 작아지면 재구성할 때 버린다.
+    private static final double MIN_SCORE = 0.01;
+    private static final int REBUILD_WINDOW_DAYS = 7;
+    private static final int MAX_REBUILD_BOARDS = 10_000;
+    private static final long APPLY_INTERVAL_MS = 1000;
+    // 더하고 뺀 뒤 남는 부동소수점 오차는 증감 없음으로 본다.
+    private static final double MIN_DELTA = 1e-9;
+
+    private final BoardRepository boardRepository;
+
+    // 기준 시각으로 환산한 점수
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private final PriorityQueue<Long> topK = new PriorityQueue<>(this::compareScore);
+    private final Set<Long> topMembers = new HashSet<>();
+    // 아직 점수에 반영하지 않은 게시판별 증감 (기준 시각으로 환산한 값)
+    private final Map<Long, DoubleAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private volatile long referenceTime = System.currentTimeMillis();
+
+    // GET /boards/{id}마다 호출되므로 락을 잡지 않는다.
+    // 304 응답(본문 없이 조회)은 제목이 null 이므로 저장된 제목을 그대로 둔다.
+    @EventListener
+    public void onBoardVisited(BoardVisitedEvent event) {
+        if (event.getBoardTitle() != null) {
+            titles.put(event.getBoardId(), event.getBoardTitle());
+        }
+        addScore(event.getBoardId(), VISIT_WEIGHT);
+    }
+
+    @TransactionalEventListener
+    public void onBoardLiked(BoardLikedEvent event) {
+        addScore(event.getBoardId(), event.isLiked() ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        addScore(event.getBoardId(), POST_WEIGHT);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        Long boardId = event.getBoardId();
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            if (topMembers.remove(boardId)) {
+                topK.remove(boardId);
+            }
+            scores.remove(boardId);
+            titles.remove(boardId);
+            pendingDeltas.remove(boardId);
+        } else if (event.getBoardTitle() != null) {
+            // 조회 없이 좋아요/게시글로만 점수를 얻은 게시판도 제목이 있도록 생성 때부터 저장한다.
+            // (점수가 없는 게시판의 제목은 rebuild 때 정리된다.)
+            titles.put(boardId, event.getBoardTitle());
+        }
+    }
+
+    /**
+     * 쌓인 증감을 점수에 반영하고 힙을 고친다.
+     * 힙 안의 게시판 점수가 줄었으면 힙 밖의 게시판이 더 높아졌을 수 있으므로 힙 밖 상위 게시판과 다시 비교한다.
+     */
+    @Scheduled(fixedDelay = APPLY_INTERVAL_MS)
+    public synchronized void applyPendingScores() {
+        int decreasedMembers = 0;
+        for (Map.Entry<Long, DoubleAdder> pending : pendingDeltas.entrySet()) {
+            // sumThenReset은 동시에 더한 값을 잃을 수 있으므로 읽은 만큼만 뺀다. (그 사이 더해진 값은 다음 주기에 반영)
+            double delta = pending.getValue().sum();
+            if (Math.abs(delta) < MIN_DELTA) {
+                continue;
+            }
+            pending.getValue().add(-delta);
+            if (applyDelta(pending.getKey(), delta)) {
+                decreasedMembers++;
+            }
+        }
+        if (decreasedMembers > 0) {
+            refillTop(decreasedMembers);
+        }
+    }
+
+    // 점수 높은 순 상위 size개. 힙에 있는 K개만 정렬한다.
+    public synchronized List<TrendingBoardResponseDto> getTrending(int size) {
+        double decay = Math.exp(-DECAY_RATE * (System.currentTimeMillis() - referenceTime));
+        return topK.stream()
+                .sorted((left, right) -> compareScore(right, left))
+                .limit(Math.max(0, Math.min(size, TOP_K)))
+                .map(boardId -> TrendingBoardResponseDto.builder()
+                        .id(boardId)
+                        .boardTitle(titles.get(boardId))
+                        .score(scores.get(boardId) * decay)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * DB의 누적 카운터로 최근 게시판의 점수를 다시 계산해서 메모리 점수와 합친다. (서버 재시작, 이벤트 유실 복구용)
+     * 누적 카운터는 언제 발생했는지 모르므로 작성 시각에 모두 발생했다고 보고 감쇠시킨다.
+     * 이때 기준 시각을 현재로 옮기고, 작아진 점수를 정리하고, 힙을 처음부터 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${board.trending.rebuild-interval-ms:600000}",
+            fixedDelayString = "${board.trending.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusDays(REBUILD_WINDOW_DAYS);
+        List<BoardTrendingView> recentBoards = boardRepository.findTrendingCandidates(
+                since, PageRequest.of(0, MAX_REBUILD_BOARDS));
+
+        synchronized (this) {
+            // 이전 기준 시각으로 환산된 증감을 먼저 반영한다.
+            applyPendingScores();
+            // 한동안 증감이 없던 게시판은 정리 (이 순간 더해진 조회 1건은 잃을 수 있다.)
+            pendingDeltas.entrySet().removeIf(pending -> Math.abs(pending.getValue().sum()) < MIN_DELTA);
+            long now = System.currentTimeMillis();
+            double rebase = Math.exp(-DECAY_RATE * (now - referenceTime));
+            Map<Long, Double> rebuilt = new HashMap<>();
+            scores.forEach((boardId, score) -> {
+                if (score * rebase >= MIN_SCORE) {
+                    rebuilt.put(boardId, score * rebase);
+                }
+            });
+            for (BoardTrendingView view : recentBoards) {
+                double estimate = (view.getCountBoardVisit() * VISIT_WEIGHT
+                        + view.getBoardLikeCount() * LIKE_WEIGHT
+                        + view.getPostCount() * POST_WEIGHT)
+                        * Math.exp(-DECAY_RATE * ageMillis(view.getCreatedAt(), now));
+                if (estimate >= MIN_SCORE) {
+                    rebuilt.merge(view.getId(), estimate, Math::max);
+                    titles.put(view.getId(), view.getBoardTitle());
+                }
+            }
+
+            referenceTime = now;
+            scores.clear();
+            scores.putAll(rebuilt);
+            titles.keySet().retainAll(scores.keySet());
+            topK.clear();
+            topMembers.clear();
+            scores.keySet().forEach(this::offerToTop);
+        }
+        log.info("인기 게시판 점수 재구성 완료: {}건", recentBoards.size());
+    }
+
+    private void addScore(Long boardId, double weight) {
+        double delta = weight * Math.exp(DECAY_RATE * (System.currentTimeMillis() - referenceTime));
+        pendingDeltas.computeIfAbsent(boardId, id -> new DoubleAdder()).add(delta);
+    }
+
+    // 점수를 바꾸고 힙에 다시 넣는다. 힙 안의 게시판 점수가 줄었으면 true
+    private boolean applyDelta(Long boardId, double delta) {
+        // 힙 안의 원소는 점수를 바꾸기 전에 꺼냈다가 다시 넣어야 순서가 유지된다.
+        boolean member = topMembers.contains(boardId);
+        if (member) {
+            topK.remove(boardId);
+        }
+        scores.put(boardId, Math.max(0.0, scores.getOrDefault(boardId, 0.0) + delta));
+        if (member) {
+            topK.offer(boardId);
+        } else {
+            offerToTop(boardId);
+        }
+        return member && delta < 0;
+    }
+
+    // 힙 밖에서 점수가 가장 높은 count개를 힙의 최솟값과 비교해서 더 높으면 바꿔 넣는다. (좋아요 취소 때만 실행)
+    private void refillTop(int count) {
+        scores.keySet().stream()
+                .filter(boardId -> !topMembers.contains(boardId))
+                .sorted((left, right) -> compareScore(right, left))
+                .limit(count)
+                .collect(Collectors.toList())
+                .forEach(this::offerToTop);
+    }
+
+    private void offerToTop(Long boardId) {
+        if (topK.size() < TOP_K) {
+            topK.offer(boardId);
+            topMembers.add(boardId);
+            return;
+        }
+        Long lowest = topK.peek();
+        if (compareScore(boardId, lowest) > 0) {
+            topK.poll();
+            topMembers.remove(lowest);
+            topK.offer(boardId);
+            topMembers.add(boardId);
+        }
+    }
+
+    // 점수, 같으면 최신(id가 큰) 게시판 순
+    private int compareScore(Long left, Long right) {
+        int compared = Double.compare(scores.getOrDefault(left, 0.0), scores.getOrDefault(right, 0.0));
+        return compared != 0 ? compared : Long.compare(left, right);
+    }
+
+    private static long ageMillis(LocalDateTime createdAt, long now) {
+        long createdAtMillis = createdAt.atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        return Math.max(0L, now - createdAtMillis);
+    }
+}
@@ -0,0 +1,144 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.entity.constant.SearchType;
+import com.sparta.doing.event.UserChangedEvent;
+import com.sparta.doing.repository.UserNameView;
+import com.sparta.doing.repository.UserRepository;
+import com.sparta.doing.util.InvertedIndex;
+import com.sparta.doing.util.NGramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 아이디/닉네임 부분 검색용 메모리 n-gram 인덱스 (1~3-gram)
+ * 게시판을 users와 조인해서 LIKE '%검색어%'로 찾는 대신,
+ * 조건에 맞는 user_id를 먼저 구하고 게시판은 user_id IN (...)으로 조회한다.
+ * 3글자 미만 검색어는 검색어 자체가 1-gram/2-gram 이므로 posting list가 곧 결과다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    // 일치하는 유저가 이보다 많으면 IN 절 대신 기존 LIKE 조인으로 넘긴다.
+    private static final int MAX_MATCHED_USERS = 1000;
+
+    private final UserRepository userRepository;
+
+    private final InvertedIndex usernameIndex = new InvertedIndex();
+    private final InvertedIndex nicknameIndex = new InvertedIndex();
+    // 3-gram 후보를 정확히 확인하기 위한 정규화된 원문
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        usernameIndex.clear();
+        nicknameIndex.clear();
+        usernames.clear();
+        nicknames.clear();
+
+        long lastId = 0L;
+        List<UserNameView> chunk;
+        do {
+            chunk = userRepository.findNameChunk(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (UserNameView view : chunk) {
+                index(view.getId(), view.getUsername(), view.getNickname());
+                lastId = view.getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("유저 검색 인덱스 구성 완료: {}명", usernames.size());
+    }
+
+    // 검색 결과 캐시의 버전을 올리기(BoardSearchCache) 전에 색인부터 반영한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        index(event.getUserId(), event.getUsername(), event.getNickname());
+    }
+
+    /**
+     * 아이디/닉네임에 검색어가 포함된 user_id 목록
+     * 인덱스 구성 전이거나 일치하는 유저가 너무 많으면 Optional.empty()
+     */
+    public Optional<List<Long>> search(SearchType searchType, String keyword) {
+        if (!ready || keyword == null) {
+            return Optional.empty();
+        }
+        InvertedIndex index;
+        Map<Long, String> values;
+        if (searchType == SearchType.ID) {
+            index = usernameIndex;
+            values = usernames;
+        } else if (searchType == SearchType.NICKNAME) {
+            index = nicknameIndex;
+            values = nicknames;
+        } else {
+            return Optional.empty();
+        }
+
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> matched;
+        if (normalizedKeyword.codePointCount(0, normalizedKeyword.length()) < GRAM_SIZE) {
+            // 짧은 검색어는 일치하는 유저가 많기 쉬우므로 목록을 만들기 전에 개수부터 확인한다.
+            if (index.postingSize(normalizedKeyword) > MAX_MATCHED_USERS) {
+                return Optional.empty();
+            }
+            matched = index.intersect(Set.of(normalizedKeyword));
+        } else {
+            matched = index.intersect(NGramTokenizer.ngramsOfWhole(normalizedKeyword, GRAM_SIZE)).stream()
+                    .filter(userId -> {
+                        String value = values.get(userId);
+                        return value != null && value.contains(normalizedKeyword);
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        if (matched.size() > MAX_MATCHED_USERS) {
+            return Optional.empty();
+        }
+        return Optional.of(matched);
+    }
+
+    private void index(Long userId, String username, String nickname) {
+        if (username != null) {
+            usernames.put(userId, NGramTokenizer.normalize(username));
+            usernameIndex.put(userId, gramsUpToSize(username));
+        }
+        if (nickname != null) {
+            nicknames.put(userId, NGramTokenizer.normalize(nickname));
+            nicknameIndex.put(userId, gramsUpToSize(nickname));
+        }
+    }
+
+    // 아이디/닉네임은 짧아서 1~3-gram을 모두 넣어도 유저당 term 수가 많지 않다.
+    private static Set<String> gramsUpToSize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int n = 1; n <= GRAM_SIZE; n++) {
+            grams.addAll(NGramTokenizer.ngramsOfWhole(text, n));
+        }
+        return grams;
+    }
+}
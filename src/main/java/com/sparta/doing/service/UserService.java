@@ -6,21 +6,24 @@ import com.sparta.doing.controller.requestdto.TokenRequestDto;
 import com.sparta.doing.controller.requestdto.UserRequestDto;
 import com.sparta.doing.controller.responsedto.TokenDto;
 import com.sparta.doing.controller.responsedto.UserResponseDto;
-import com.sparta.doing.entity.RefreshToken;
 import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.event.UserChangedEvent;
 import com.sparta.doing.exception.DuplicateUserInfoException;
 import com.sparta.doing.exception.ExceptionCode;
 import com.sparta.doing.exception.InvalidJWTException;
+import com.sparta.doing.exception.PasswordHashingBusyException;
 import com.sparta.doing.exception.RefreshTokenNotFoundException;
 import com.sparta.doing.jwt.TokenProvider;
-import com.sparta.doing.repository.RefreshTokenRepository;
 import com.sparta.doing.repository.UserRepository;
+import com.sparta.doing.security.PasswordHashingExecutor;
+import com.sparta.doing.security.RefreshTokenStore;
 import com.sparta.doing.util.SecurityUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -30,8 +33,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -41,10 +46,17 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
-
-    @Transactional
-    public UserResponseDto signup(@Valid SignUpDto signUpDto) {
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 중복 검사는 요청 스레드에서 바로 하고, 비밀번호 해시와 저장은 해시 스레드 풀에서 실행한다.
+     *
+     * @throws PasswordHashingBusyException 해시 대기열이 가득 찼을 때 (바로 503)
+     */
+    public CompletableFuture<UserResponseDto> signup(@Valid SignUpDto signUpDto) {
         if (checkUsername(signUpDto.getUsername())) {
             log.info("이미 가입되어 있는 유저입니다");
             throw new DuplicateUserInfoException("이미 가입되어 있는 유저입니다");
@@ -60,51 +72,63 @@ public class UserService {
             throw new DuplicateUserInfoException("이미 사용중인 별명입니다");
         }
 
-        return UserResponseDto.of(
-                userRepository.save(
-                        UserEntity.of(signUpDto, passwordEncoder)));
+        return passwordHashingExecutor.submit(() -> {
+            // 해시는 트랜잭션(DB 커넥션) 밖에서
+            String encodedPassword = passwordEncoder.encode(signUpDto.getPassword());
+            return transactionTemplate.execute(status -> {
+                UserEntity savedUser = userRepository.save(UserEntity.of(signUpDto, encodedPassword));
+                eventPublisher.publishEvent(UserChangedEvent.of(savedUser));
+                return UserResponseDto.of(savedUser);
+            });
+        });
     }
 
-    @Transactional
-    public TokenDto login(LoginDto loginDto) {
+    /**
+     * 비밀번호 검증(BCrypt)부터 토큰 발급까지 해시 스레드 풀에서 실행한다.
+     *
+     * @throws PasswordHashingBusyException 해시 대기열이 가득 찼을 때 (바로 503)
+     */
+    public CompletableFuture<TokenDto> login(LoginDto loginDto) {
         // 1. Login 화면에서 입력 받은 ID/PW 를 기반으로 AuthenticationToken 생성
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
 
-        // 2. 실제로 검증 (사용자 비밀번호 체크) 이 이루어지는 부분
-        //    authenticate 메서드가 실행이 될 때 CustomUserDetailsService 에서 만들었던 loadUserByUsername 메서드가 실행됨
-        Authentication authentication;
+        return passwordHashingExecutor.submit(() -> issueTokens(authenticate(authenticationToken)));
+    }
+
+    // 2. 실제로 검증 (사용자 비밀번호 체크) 이 이루어지는 부분
+    //    authenticate 메서드가 실행이 될 때 CustomUserDetailsService 에서 만들었던 loadUserByUsername 메서드가 실행됨
+    //    저장된 해시의 cost가 낮으면 이때 CustomUserDetailsService.updatePassword 로 다시 해시해서 저장
+    private Authentication authenticate(UsernamePasswordAuthenticationToken authenticationToken) {
         try {
-            authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+            return authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         } catch (AuthenticationException e) {
             log.info("아이디, 혹은 비밀번호가 잘못되었습니다.");
             throw new BadCredentialsException("아이디, 혹은 비밀번호가 잘못되었습니다.");
         }
+    }
 
-        // 3. 검증이 끝나면 해당 정보로 db에서 UserEntity를 검색
-        var userId = Long.valueOf(authentication.getName());
-        var userEntity = userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new UsernameNotFoundException("userId: " + userId +
-                                "는 존재하지 않는 회원입니다."));
+    private TokenDto issueTokens(Authentication authentication) {
+        return transactionTemplate.execute(status -> {
+            // 3. 검증이 끝나면 해당 정보로 db에서 UserEntity를 검색
+            var userId = Long.valueOf(authentication.getName());
+            var userEntity = userRepository.findById(userId)
+                    .orElseThrow(
+                            () -> new UsernameNotFoundException("userId: " + userId +
+                                    "는 존재하지 않는 회원입니다."));
 
-        // 4. 인증 정보와 PK값을 넣고 JWT 토큰 생성
-        TokenDto tokenDto = tokenProvider.createTokenDto(authentication, userId);
+            // 4. 인증 정보와 PK값을 넣고 JWT 토큰 생성
+            TokenDto tokenDto = tokenProvider.createTokenDto(authentication, userId);
 
-        // 5. RefreshToken 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-                .key(userId)
-                .value(tokenDto.getRefreshToken())
-                .build();
+            // 5. RefreshToken 저장
+            refreshTokenStore.save(userId, tokenDto.getRefreshToken(), tokenProvider.getREFRESH_TOKEN_LIFETIME_IN_MS());
 
-        refreshTokenRepository.save(refreshToken);
-
-        // 6. 토큰 발급
-        return tokenDto;
+            // 6. 토큰 발급
+            return tokenDto;
+        });
     }
 
     // 토큰 재발급
-    @Transactional
     public TokenDto renewToken(TokenRequestDto tokenRequestDto) {
         // 1. Refresh Token 검증
         try {
@@ -137,37 +161,37 @@ public class UserService {
         Authentication authentication = tokenProvider.getAuthentication(tokenRequestDto.getAccessToken());
         var userId = Long.parseLong(authentication.getName());
 
-        // 3. 리프레쉬 토큰 저장소에서 userId(PK) 를 기반으로 토큰 가져옴
-        RefreshToken refreshToken = refreshTokenRepository.findById(userId)
-                .orElseThrow(() ->
-                        new RefreshTokenNotFoundException("로그아웃 된 사용자입니다."));
-
-        // 4. Refresh Token 일치하는지 검사
-        if (!refreshToken.getValue().equals(tokenRequestDto.getRefreshToken())) {
-            throw new InvalidJWTException("토큰의 유저 정보가 일치하지 않습니다.");
+        // 3. 리프레쉬 토큰 저장소에서 userId(PK) 를 기반으로 저장된 토큰과 일치하는지 검사
+        switch (refreshTokenStore.match(userId, tokenRequestDto.getRefreshToken())) {
+            case NOT_FOUND:
+                throw new RefreshTokenNotFoundException("로그아웃 된 사용자입니다.");
+            case MISMATCHED:
+                throw new InvalidJWTException("토큰의 유저 정보가 일치하지 않습니다.");
+            default:
+                break;
         }
 
-        // 5. Access Token 에서 가져온 userId(PK)를 다시 새로운 토큰의 클레임에 넣고 토큰 생성
+        // 4. Access Token 에서 가져온 userId(PK)를 다시 새로운 토큰의 클레임에 넣고 토큰 생성
         TokenDto tokenDto = tokenProvider.createTokenDto(authentication, userId);
 
-        // 6. db의 리프레쉬 토큰 정보 업데이트
-        RefreshToken newRefreshToken =
-                refreshToken.withValue(tokenDto.getRefreshToken());
-        refreshTokenRepository.save(newRefreshToken);
+        // 5. 리프레쉬 토큰 저장소 업데이트 (3번 검사 이후 같은 토큰으로 먼저 재발급 받았으면 실패)
+        if (!refreshTokenStore.replace(userId, tokenRequestDto.getRefreshToken(),
+                tokenDto.getRefreshToken(), tokenProvider.getREFRESH_TOKEN_LIFETIME_IN_MS())) {
+            throw new InvalidJWTException("토큰의 유저 정보가 일치하지 않습니다.");
+        }
 
         // 토큰 발급
         return tokenDto;
     }
 
-    @Transactional
     public TokenDto logout() {
         var userId = SecurityUtil.getCurrentUserIdByLong();
-        var token = refreshTokenRepository.findById(userId)
-                .orElseThrow(() -> new RefreshTokenNotFoundException(
-                        "userId: " + userId + "의 리프레쉬 토큰을 찾을 수 없습니다.")
-                );
-
-        refreshTokenRepository.delete(token);
+        // 지금 요청에 쓴 액세스 토큰도 만료 전까지 사용할 수 없게 폐기
+        SecurityUtil.getCurrentAccessToken().ifPresent(tokenProvider::revoke);
+        if (!refreshTokenStore.remove(userId)) {
+            throw new RefreshTokenNotFoundException(
+                    "userId: " + userId + "의 리프레쉬 토큰을 찾을 수 없습니다.");
+        }
 
         return tokenProvider.createEmptyTokenDto();
     }
@@ -199,7 +223,10 @@ public class UserService {
                 .orElseThrow(
                         () -> new UsernameNotFoundException(userId + "은 올바른 userId가 아닙니다."));
         user.updateInfo(requestDto);
-        return UserResponseDto.of(userRepository.save(user));
+        UserEntity savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser));
+
+        return UserResponseDto.of(savedUser);
     }
 
     public boolean checkUsername(String username) {
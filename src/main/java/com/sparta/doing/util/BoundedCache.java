@@ -0,0 +1,174 @@
+package com.sparta.doing.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기(가중치) 제한 LRU 캐시
+ * 값마다 weigher로 계산한 크기를 더해서 maxWeight를 넘으면 가장 오래 사용되지 않은 값부터 제거한다.
+ * 저장 후 ttlMillis가 지난 값은 조회되지 않는다. 적중/실패/제거 횟수를 기록한다.
+ */
+public class BoundedCache<K, V> {
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final ToLongFunction<V> weigher;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래 사용되지 않은 값
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BoundedCache(long maxWeight, long ttlMillis, ToLongFunction<V> weigher) {
+        if (maxWeight <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxWeight, ttlMillis는 0보다 커야 합니다.");
+        }
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.weigher = weigher;
+    }
+
+    // 값이 없거나 만료되었으면 null
+    public V getIfPresent(K key) {
+        return getIfPresent(key, value -> true);
+    }
+
+    // isValid가 false인 값(예: 버전이 지난 값)은 만료된 값처럼 제거하고 실패로 센다.
+    public V getIfPresent(K key, Predicate<V> isValid) {
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.currentTimeMillis()) && isValid.test(entry.value)) {
+                hitCount.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlMillis);
+    }
+
+    // 값마다 다른 만료 시간을 줄 때 사용 (기본 TTL보다 길게는 줄 수 없다)
+    public void put(K key, V value, long ttlMillis) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + Math.min(ttlMillis, this.ttlMillis);
+        synchronized (this) {
+            Entry<V> previous = entries.put(key, new Entry<>(value, weight, expiresAt));
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += weight;
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * 저장된 값이 expected 그대로일 때만 newValue로 바꾼다. (값을 복사해서 고친 뒤 다시 넣을 때)
+     * 크기는 newValue로 다시 계산하고, 만료 시각은 처음 넣었을 때 그대로 둔다.
+     *
+     * @return 바꿨으면 true, 그 사이 값이 바뀌었거나 없어졌으면 false
+     */
+    public boolean replace(K key, V expected, V newValue) {
+        long weight = weigher.applyAsLong(newValue);
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null || entry.value != expected) {
+                return false;
+            }
+            if (weight > maxWeight) {
+                removeEntry(key, entry);
+                return true;
+            }
+            entries.put(key, new Entry<>(newValue, weight, entry.expiresAt));
+            totalWeight += weight - entry.weight;
+            evictIfNeeded();
+            return true;
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            totalWeight -= entry.weight;
+        }
+    }
+
+    // value가 그대로일 때만 제거 (그 사이 다른 요청이 넣은 값은 지우지 않는다)
+    public synchronized void invalidate(K key, V value) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.value == value) {
+            removeEntry(key, entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), totalWeight, maxWeight,
+                hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictionCount.increment();
+        }
+    }
+
+    private void removeEntry(K key, Entry<V> entry) {
+        entries.remove(key);
+        totalWeight -= entry.weight;
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    // ExpiringCache도 같은 형식으로 통계를 낸다.
+    @Getter
+    @AllArgsConstructor
+    public static final class Stats {
+        private final long size;
+        private final long weight;
+        private final long maxWeight;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        }
+    }
+}
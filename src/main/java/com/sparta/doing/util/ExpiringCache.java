@@ -0,0 +1,99 @@
+package com.sparta.doing.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없이 조회하는 만료 시각 캐시 (요청마다 조회되는 값용)
+ * 값마다 만료 시각을 함께 저장하고, 조회는 ConcurrentHashMap.get 한 번과 만료 시각 비교만 한다.
+ * BoundedCache와 달리 LRU 순서를 관리하지 않으므로 크기 제한은 대략적이다.
+ * 한도를 넘으면 넣는 스레드 하나가 만료된 값을 지우고, 그래도 많으면 남은 값을 순서 없이 지운다.
+ */
+public class ExpiringCache<K, V> {
+    private final int maxSize;
+    // 한 번 정리할 때 이 크기까지 줄인다. (넣을 때마다 정리하지 않도록 여유를 둔다)
+    private final int trimmedSize;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.trimmedSize = maxSize - maxSize / 10;
+    }
+
+    // 값이 없거나 만료되었으면 null
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hitCount.increment();
+            return entry.value;
+        }
+        if (entry != null) {
+            // 그 사이 다시 넣은 값은 지우지 않는다.
+            entries.remove(key, entry);
+        }
+        missCount.increment();
+        return null;
+    }
+
+    // expiresAt(epoch millis)이 지나면 조회되지 않는다.
+    public void put(K key, V value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evict(now);
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public BoundedCache.Stats stats() {
+        long size = entries.size();
+        return new BoundedCache.Stats(size, size, maxSize,
+                hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private void evict(long now) {
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            // 같은 키로 그 사이 다시 넣은 값은 지우지 않는다.
+            if (entry.getValue().expiresAt <= now && entries.remove(entry.getKey(), entry.getValue())) {
+                evictionCount.increment();
+            }
+        }
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > trimmedSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
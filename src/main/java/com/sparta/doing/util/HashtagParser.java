@@ -0,0 +1,64 @@
+package com.sparta.doing.util;
+
+import com.sparta.doing.entity.BoardHashtag;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * boardHashtag 문자열("#java #spring")을 정규화된 태그 집합으로 변환
+ */
+public class HashtagParser {
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+    private static final Pattern QUERY_DELIMITER = Pattern.compile("[\\s,#]+");
+    private static final Pattern TAG_PATTERN = Pattern.compile("[\\p{L}\\p{N}_]+");
+
+    private HashtagParser() {
+    }
+
+    /**
+     * 게시판에 저장된 해시태그 문자열에서 '#'으로 시작하는 태그만 추출
+     *
+     * @return 소문자로 정규화된 태그 집합
+     */
+    public static Set<String> parse(String boardHashtag) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (boardHashtag == null || boardHashtag.isBlank()) {
+            return tags;
+        }
+        Matcher matcher = HASHTAG_PATTERN.matcher(normalize(boardHashtag));
+        while (matcher.find()) {
+            String tag = matcher.group(1);
+            if (tag.length() <= BoardHashtag.MAX_TAG_LENGTH) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 검색어("java spring", "#java,#spring")를 태그 집합으로 변환. '#'은 생략 가능
+     *
+     * @return 소문자로 정규화된 태그 집합
+     */
+    public static Set<String> parseQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return new LinkedHashSet<>();
+        }
+        return Arrays.stream(QUERY_DELIMITER.split(normalize(keyword)))
+                .filter(tag -> !tag.isEmpty())
+                .filter(tag -> TAG_PATTERN.matcher(tag).matches())
+                .filter(tag -> tag.length() <= BoardHashtag.MAX_TAG_LENGTH)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.doing.util;
+
+/**
+ * id -> 구간(stripe) 번호
+ * Snowflake id는 하위 비트(노드 id, 시퀀스)가 대부분 0이라 하위 비트로 나누면 거의 모든 id가 한 구간에 몰린다.
+ * 피보나치 해싱(황금비 상수 곱)으로 모든 비트를 섞은 뒤 상위 비트를 구간 번호로 쓴다.
+ */
+public final class IdStripes {
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private IdStripes() {
+    }
+
+    /**
+     * @param stripeBits 구간 수 = 2^stripeBits
+     * @return 0 ~ 2^stripeBits - 1
+     */
+    public static int of(long id, int stripeBits) {
+        return (int) ((id * GOLDEN_RATIO) >>> (64 - stripeBits));
+    }
+}
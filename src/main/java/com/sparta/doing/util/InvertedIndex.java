@@ -0,0 +1,124 @@
+package com.sparta.doing.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * term -> 문서 id 목록(posting list)을 관리하는 역색인
+ * 문서별 term 목록도 함께 들고 있어서 수정/삭제 시 이전 term을 바로 지울 수 있다.
+ */
+public class InvertedIndex {
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long documentId, Set<String> terms) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            documents.put(documentId, Set.copyOf(terms));
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(documentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 term을 포함하는 문서 id를 내림차순(최신 글 먼저)으로 반환
+     * 가장 짧은 posting list를 기준으로 나머지 목록과 교집합을 구한다.
+     */
+    public List<Long> intersect(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Set<Long> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>();
+            Set<Long> smallest = lists.get(0);
+            for (Long documentId : smallest) {
+                boolean matched = true;
+                for (int i = 1; i < lists.size() && matched; i++) {
+                    matched = lists.get(i).contains(documentId);
+                }
+                if (matched) {
+                    result.add(documentId);
+                }
+            }
+            result.sort(Comparator.reverseOrder());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // term 을 포함하는 문서 수 (없으면 0)
+    public int postingSize(String term) {
+        lock.readLock().lock();
+        try {
+            Set<Long> posting = postings.get(term);
+            return posting == null ? 0 : posting.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long documentId) {
+        Set<String> previous = documents.remove(documentId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous) {
+            Set<Long> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(documentId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.doing.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자 n-gram 토크나이저
+ * 한국어는 조사가 붙어 띄어쓰기 단위로는 검색이 안 되므로("자바를" 안의 "자바")
+ * 형태소 분석 대신 글자 단위 n-gram으로 자른다. 영문/숫자도 같은 방식으로 처리한다.
+ */
+public class NGramTokenizer {
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 정규화(NFKC, 소문자)하고 글자/숫자 구간별로 n-gram을 만든다.
+     * n보다 짧은 구간은 무시한다.
+     *
+     * @return n-gram 집합
+     */
+    public static Set<String> ngrams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String run : runs(text)) {
+            int[] codePoints = run.codePoints().toArray();
+            for (int i = 0; i + n <= codePoints.length; i++) {
+                grams.add(new String(codePoints, i, n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 공백/기호를 포함한 문자열 전체를 정규화해서 n-gram을 만든다. (아이디, 닉네임처럼 짧은 값용)
+     *
+     * @return n-gram 집합
+     */
+    public static Set<String> ngramsOfWhole(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        int[] codePoints = normalize(text).codePoints().toArray();
+        for (int i = 0; i + n <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, n));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어의 모든 글자/숫자 구간이 n 이상인지 확인.
+     * 짧은 구간이 있으면 n-gram 인덱스로는 부분 일치를 보장할 수 없다.
+     */
+    public static boolean isIndexable(String text, int n) {
+        List<String> runs = runs(text);
+        if (runs.isEmpty()) {
+            return false;
+        }
+        return runs.stream().allMatch(run -> run.codePointCount(0, run.length()) >= n);
+    }
+
+    // 정규화한 뒤 글자/숫자가 연속된 구간(단어) 목록
+    public static List<String> words(String text) {
+        return runs(text);
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 글자/숫자가 연속된 구간으로 분리
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = normalize(text);
+        StringBuilder current = new StringBuilder();
+        normalized.codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else if (current.length() > 0) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (current.length() > 0) {
+            runs.add(current.toString());
+        }
+        return runs;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.doing.util;
 
+import com.sparta.doing.security.JwtPrincipal;
 import io.jsonwebtoken.lang.Assert;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,12 @@ import java.util.Optional;
 @NoArgsConstructor
 public class SecurityUtil {
     public static Long getCurrentUserIdByLong() {
+        // JWT로 인증된 요청은 principal에 long id가 있으므로 문자열을 파싱하지 않는다.
+        JwtPrincipal jwtPrincipal = getJwtPrincipal();
+        if (jwtPrincipal != null) {
+            return jwtPrincipal.getUserId();
+        }
+
         var userId = getUserIdFromHolder().orElse(null);
 
         try {
@@ -27,10 +34,39 @@ public class SecurityUtil {
         return Long.parseLong(userId);
     }
 
+    // 로그인하지 않은 요청(anonymousUser 등)이면 Optional.empty()
+    public static Optional<Long> findCurrentUserId() {
+        JwtPrincipal jwtPrincipal = getJwtPrincipal();
+        if (jwtPrincipal != null) {
+            return Optional.of(jwtPrincipal.getUserId());
+        }
+        return getUserIdFromHolder()
+                .filter(userId -> !userId.isEmpty() && userId.chars().allMatch(Character::isDigit))
+                .map(Long::parseLong);
+    }
+
     public static Optional<String> getCurrentUserIdByString() {
         return getUserIdFromHolder();
     }
 
+    // JWT로 인증된 요청이면 요청에 쓴 액세스 토큰 (JwtFilter가 credentials에 넣어 둔다.)
+    public static Optional<String> getCurrentAccessToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal
+                && authentication.getCredentials() instanceof String) {
+            return Optional.of((String) authentication.getCredentials());
+        }
+        return Optional.empty();
+    }
+
+    private static JwtPrincipal getJwtPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal) {
+            return (JwtPrincipal) authentication.getPrincipal();
+        }
+        return null;
+    }
+
     private static Optional<String> getUserIdFromHolder() {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
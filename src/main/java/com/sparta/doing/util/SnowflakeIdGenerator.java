@@ -0,0 +1,72 @@
+package com.sparta.doing.util;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 id 생성기 (Snowflake 방식)
+ * [41bit 밀리초 타임스탬프 | 4bit 노드 id | 8bit 시퀀스] = 53bit
+ * JSON으로 내려간 id를 자바스크립트 Number가 정확히 표현할 수 있도록 2^53 미만으로 만든다.
+ * 노드당 밀리초마다 256개, 초당 약 25만 개까지 생성하고, 넘치면 다음 밀리초를 미리 사용한다.
+ * (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락이 없다.
+ */
+public class SnowflakeIdGenerator {
+    // 2022-01-01T00:00:00Z, 41bit로 약 69년
+    public static final long EPOCH_MILLIS = Instant.parse("2022-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final SnowflakeIdGenerator SHARED = new SnowflakeIdGenerator(resolveNodeId());
+
+    private final long nodeId;
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    // JVM 안의 모든 엔티티가 함께 쓰는 생성기
+    // 노드 id는 -Dsnowflake.node-id 또는 환경변수 SNOWFLAKE_NODE_ID (서버마다 달라야 함, 기본 0)
+    public static SnowflakeIdGenerator shared() {
+        return SHARED;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            long previous = state.get();
+            long previousTimestamp = previous >>> SEQUENCE_BITS;
+            long next;
+            if (now > previousTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((previous & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                // 같은 밀리초이거나 시계가 뒤로 간 경우: 이전 타임스탬프에서 이어서 발급 (항상 증가)
+                next = previous + 1;
+            } else {
+                // 시퀀스를 다 쓰면 기다리지 않고 다음 밀리초를 빌려 쓴다.
+                next = (previousTimestamp + 1) << SEQUENCE_BITS;
+            }
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // id에 담긴 생성 시각 (epoch millis)
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    private static long resolveNodeId() {
+        String nodeId = System.getProperty("snowflake.node-id", System.getenv("SNOWFLAKE_NODE_ID"));
+        return nodeId == null || nodeId.isBlank() ? 0L : Long.parseLong(nodeId.strip());
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.doing.util;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+
+/**
+ * SnowflakeIdGenerator를 Hibernate id 생성기로 등록하기 위한 어댑터
+ * persist 시점에 DB를 거치지 않고 id를 정하므로 INSERT를 JDBC batch로 묶을 수 있고,
+ * flush 전에도 id를 이벤트, 캐시 키로 쓸 수 있다.
+ *
+ * 사용: @GeneratedValue(generator = "snowflake")
+ *      @GenericGenerator(name = "snowflake", strategy = "com.sparta.doing.util.SnowflakeIdentifierGenerator")
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
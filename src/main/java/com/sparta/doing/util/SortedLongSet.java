@@ -0,0 +1,62 @@
+package com.sparta.doing.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 배열로 저장하는 id 집합 (8byte/개)
+ * contains는 이진 탐색, add/remove는 배열 이동이 필요하지만 오름차순으로 넣으면 뒤에 붙이기만 한다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠그거나, 공유한 뒤에는 바꾸지 않고 copy()를 고친다.
+ */
+public class SortedLongSet {
+    private long[] values = new long[4];
+    private int size;
+
+    public boolean add(long value) {
+        // 오름차순 입력(DB에서 정렬해서 읽어올 때)은 이진 탐색 없이 뒤에 붙인다.
+        int index = size > 0 && values[size - 1] < value
+                ? size
+                : Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0 && index < size) {
+            return false;
+        }
+        index = index < 0 ? -index - 1 : index;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    // 같은 값을 가진 새 집합 (배열은 값 개수에 맞춰 새로 만든다.)
+    public SortedLongSet copy() {
+        SortedLongSet copied = new SortedLongSet();
+        copied.values = Arrays.copyOf(values, Math.max(4, size + 1));
+        copied.size = size;
+        return copied;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 대략적인 메모리 사용량
+    public long sizeInBytes() {
+        return 32L + values.length * 8L;
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.doing.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 만료 시각 구간별로 나눈 블룸 필터
+ * 키를 만료 시각이 속한 구간(partitionMillis 단위)의 필터에 넣고, 구간이 끝나면 그 필터를 통째로 버린다.
+ * (블룸 필터는 키를 지울 수 없으므로 구간 단위로 지워서 크기와 오탐률을 일정하게 유지한다.)
+ * mightContain이 false면 확실히 없는 키이고, true면 있을 수도 있는 키다.
+ */
+public class TimePartitionedBloomFilter {
+    private final long partitionMillis;
+    private final int bitCount;
+    private final int hashCount;
+    // 구간 번호(만료 시각 / partitionMillis) -> 필터
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * @param expectedInsertions 구간 하나에 들어갈 것으로 예상하는 키 수
+     * @param falsePositiveRate  예상 키 수만큼 들어갔을 때의 오탐률
+     */
+    public TimePartitionedBloomFilter(long partitionMillis, int expectedInsertions, double falsePositiveRate) {
+        this.partitionMillis = partitionMillis;
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String key, long expiresAt) {
+        partitions.computeIfAbsent(Math.floorDiv(expiresAt, partitionMillis), partition -> new Partition(bitCount))
+                .put(hash64(key, 0x9E3779B97F4A7C15L), hash64(key, 0xC2B2AE3D27D4EB4FL), hashCount);
+    }
+
+    // 남아 있는 구간 필터를 모두 확인 (구간 수는 토큰 유효기간 / partitionMillis + 1 정도)
+    public boolean mightContain(String key) {
+        if (partitions.isEmpty()) {
+            return false;
+        }
+        long h1 = hash64(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash64(key, 0xC2B2AE3D27D4EB4FL);
+        for (Partition partition : partitions.values()) {
+            if (partition.mightContain(h1, h2, hashCount)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 구간 끝이 now 이전인 필터를 버린다. (그 구간의 키는 모두 만료됨)
+    public void expire(long now) {
+        partitions.keySet().removeIf(partition -> (partition + 1) * partitionMillis <= now);
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    // FNV-1a 64 + murmur3 fmix64 (seed마다 독립적인 해시 두 개로 k개 위치를 만든다.)
+    private static long hash64(String key, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Partition {
+        private final AtomicLongArray words;
+        private final int bitCount;
+
+        private Partition(int bitCount) {
+            this.bitCount = bitCount;
+            this.words = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        // 여러 스레드가 동시에 넣어도 비트를 잃지 않도록 CAS로 OR
+        private void put(long h1, long h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1, h2, i);
+                long mask = 1L << (bit & 63);
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(long h1, long h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1, h2, i);
+                if ((words.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long h1, long h2, int i) {
+            return (int) Math.floorMod(h1 + i * (h2 | 1), (long) bitCount);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.sparta.doing.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각이 있는 키를 모아 두었다가 시간이 되면 꺼내 주는 계층형 타이밍 휠
+ * 0단계 휠은 칸 하나가 tick 하나이고, 윗단계로 갈수록 칸 하나가 아랫단계 휠 한 바퀴만큼의 시간을 맡는다.
+ * 윗단계 칸은 시간이 그 칸에 도달했을 때 아랫단계로 다시 나눠 넣으므로(cascade)
+ * 등록/만료 모두 전체 키를 훑지 않고 칸 하나만 처리한다. (우선순위 큐처럼 log n 비용이 없다.)
+ * 취소 기능은 없으므로 만료 콜백에서 키가 아직 유효한지 다시 확인해야 한다.
+ */
+public class TimingWheel<K> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Entry<K>>[][] wheels;
+    // 마지막으로 처리한 tick
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis 0단계 칸 하나의 시간 (만료 정밀도)
+     * @param wheelSize  단계별 칸 수
+     * @param levels     단계 수. tickMillis * wheelSize^levels 보다 먼 만료는 마지막 단계 끝 칸에 두었다가 다시 나눈다.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.wheels = new List[levels][wheelSize];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        insert(new Entry<>(key, deadlineMillis / tickMillis), currentTick + 1);
+        size++;
+    }
+
+    /**
+     * nowMillis까지 시간을 진행하고 만료된 키마다 onExpired를 호출한다. (락 밖에서 호출)
+     *
+     * @return 만료된 키 수
+     */
+    public int advance(long nowMillis, Consumer<K> onExpired) {
+        List<K> expired = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = nowMillis / tickMillis;
+            while (currentTick < nowTick) {
+                currentTick++;
+                cascade();
+                List<Entry<K>> slot = wheels[0][(int) (currentTick % wheelSize)];
+                if (slot != null) {
+                    wheels[0][(int) (currentTick % wheelSize)] = null;
+                    for (Entry<K> entry : slot) {
+                        expired.add(entry.key);
+                    }
+                    size -= slot.size();
+                }
+            }
+        }
+        expired.forEach(onExpired);
+        return expired.size();
+    }
+
+    // 아직 만료되지 않은 등록 수 (같은 키를 여러 번 등록하면 여러 개로 센다)
+    public synchronized int size() {
+        return size;
+    }
+
+    // 현재 tick이 윗단계 칸의 경계이면 그 칸을 아랫단계로 다시 나눈다. (위에서부터)
+    private void cascade() {
+        long span = 1;
+        int boundaryLevel = 0;
+        while (boundaryLevel + 1 < wheels.length && currentTick % (span * wheelSize) == 0) {
+            span *= wheelSize;
+            boundaryLevel++;
+        }
+        for (int level = boundaryLevel; level >= 1; level--) {
+            long levelSpan = pow(wheelSize, level);
+            int index = (int) ((currentTick / levelSpan) % wheelSize);
+            List<Entry<K>> slot = wheels[level][index];
+            if (slot != null) {
+                wheels[level][index] = null;
+                for (Entry<K> entry : slot) {
+                    insert(entry, currentTick);
+                }
+            }
+        }
+    }
+
+    // earliestTick보다 이른 만료는 earliestTick에 처리 (새 등록은 다음 tick, cascade는 현재 tick)
+    private void insert(Entry<K> entry, long earliestTick) {
+        long deadlineTick = Math.max(entry.deadlineTick, earliestTick);
+        long delta = deadlineTick - currentTick;
+        long levelSpan = 1;
+        for (int level = 0; level < wheels.length; level++) {
+            if (delta < levelSpan * wheelSize) {
+                add(level, (int) ((deadlineTick / levelSpan) % wheelSize), entry);
+                return;
+            }
+            levelSpan *= wheelSize;
+        }
+        // 범위 밖: 마지막 단계에서 가장 늦게 돌아오는 칸에 두었다가 cascade 때 다시 넣는다.
+        int last = wheels.length - 1;
+        long lastSpan = levelSpan / wheelSize;
+        add(last, (int) ((currentTick / lastSpan + wheelSize - 1) % wheelSize), entry);
+    }
+
+    private void add(int level, int index, Entry<K> entry) {
+        List<Entry<K>> slot = wheels[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            wheels[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
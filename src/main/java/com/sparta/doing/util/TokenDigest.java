@@ -0,0 +1,32 @@
+package com.sparta.doing.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 캐시 키/저장 값으로 쓰는 SHA-256 다이제스트
+ * 메모리나 DB에 토큰 원문을 남기지 않으면서 같은 토큰인지 비교할 수 있다.
+ */
+public class TokenDigest {
+    // MessageDigest는 스레드에 안전하지 않고 getInstance 비용이 있으므로 스레드마다 하나씩 재사용한다.
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    // Base64(URL-safe, 패딩 없음) 43글자
+    public static String sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
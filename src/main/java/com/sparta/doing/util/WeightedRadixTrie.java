@@ -0,0 +1,301 @@
+package com.sparta.doing.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가중치(빈도) 자동완성용 압축 트라이 (radix tree)
+ * 자식이 하나뿐인 노드를 합쳐서 간선에 문자열을 저장하고, 노드마다 하위 트리의 최대 가중치를 들고 있다.
+ * 접두어 노드에서 최대 가중치가 큰 쪽부터 탐색(best-first)하므로 상위 N개만 보고 멈춘다.
+ */
+public class WeightedRadixTrie {
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /**
+     * term의 가중치를 delta만큼 증감. 0 이하가 되면 term을 제거한다.
+     */
+    public void add(String term, long delta) {
+        if (term.isEmpty() || delta == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = delta > 0 ? insertPath(term, path) : findPath(term, path);
+            if (node == null) {
+                return;
+            }
+            boolean wasTerm = node.weight > 0;
+            node.weight = Math.max(0, node.weight + delta);
+            if (!wasTerm && node.weight > 0) {
+                size++;
+            } else if (wasTerm && node.weight == 0) {
+                size--;
+            }
+            // 아래에서부터 최대 가중치를 다시 계산하고, 필요 없어진 노드는 정리한다.
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                if (i > 0) {
+                    compact(path.get(i - 1), current);
+                }
+                current.updateMaxWeight();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * prefix로 시작하는 term 중 가중치가 큰 순서로 최대 limit개
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        List<Completion> completions = new ArrayList<>();
+        if (limit <= 0) {
+            return completions;
+        }
+        lock.readLock().lock();
+        try {
+            // prefix가 간선 중간에서 끝날 수 있으므로 해당 간선의 나머지까지 붙여서 시작한다.
+            Node node = root;
+            StringBuilder text = new StringBuilder();
+            int offset = 0;
+            while (offset < prefix.length()) {
+                Node child = node.child(prefix.charAt(offset));
+                if (child == null) {
+                    return completions;
+                }
+                int matched = commonPrefixLength(child.label, prefix, offset);
+                if (matched < child.label.length() && offset + matched < prefix.length()) {
+                    return completions;
+                }
+                text.append(child.label);
+                offset += matched;
+                node = child;
+            }
+
+            PriorityQueue<Candidate> queue = new PriorityQueue<>();
+            queue.add(new Candidate(node, text.toString(), node.maxWeight, false));
+            while (!queue.isEmpty() && completions.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.terminal) {
+                    completions.add(new Completion(candidate.text, candidate.priority));
+                    continue;
+                }
+                Node current = candidate.node;
+                if (current.weight > 0) {
+                    queue.add(new Candidate(current, candidate.text, current.weight, true));
+                }
+                for (int i = 0; i < current.childCount; i++) {
+                    Node child = current.children[i];
+                    queue.add(new Candidate(child, candidate.text + child.label, child.maxWeight, false));
+                }
+            }
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long weight(String term) {
+        lock.readLock().lock();
+        try {
+            Node node = findPath(term, new ArrayList<>());
+            return node == null ? 0 : node.weight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 등록된 term 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.childCount = 0;
+            root.children = new Node[0];
+            root.childKeys = new char[0];
+            root.weight = 0;
+            root.maxWeight = 0;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // term까지의 노드를 만들면서 경로를 기록 (간선 중간이면 간선을 나눈다)
+    private Node insertPath(String term, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int offset = 0;
+        while (offset < term.length()) {
+            Node child = node.child(term.charAt(offset));
+            if (child == null) {
+                child = new Node(term.substring(offset));
+                node.addChild(child);
+                path.add(child);
+                return child;
+            }
+            int matched = commonPrefixLength(child.label, term, offset);
+            if (matched < child.label.length()) {
+                child = split(node, child, matched);
+            }
+            offset += matched;
+            node = child;
+            path.add(node);
+        }
+        return node;
+    }
+
+    // term에 정확히 해당하는 노드와 경로. 없으면 null
+    private Node findPath(String term, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int offset = 0;
+        while (offset < term.length()) {
+            Node child = node.child(term.charAt(offset));
+            if (child == null || !term.startsWith(child.label, offset)) {
+                return null;
+            }
+            offset += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return node;
+    }
+
+    // child의 간선을 앞쪽 length 글자에서 나누고 앞쪽 노드를 반환
+    private static Node split(Node parent, Node child, int length) {
+        Node head = new Node(child.label.substring(0, length));
+        parent.replaceChild(child, head);
+        child.label = child.label.substring(length);
+        head.addChild(child);
+        head.maxWeight = child.maxWeight;
+        return head;
+    }
+
+    // term도 자식도 없으면 제거, term이 아닌데 자식이 하나면 자식과 합친다.
+    private static void compact(Node parent, Node node) {
+        if (node.weight > 0) {
+            return;
+        }
+        if (node.childCount == 0) {
+            parent.removeChild(node);
+        } else if (node.childCount == 1) {
+            Node only = node.children[0];
+            only.label = node.label + only.label;
+            parent.replaceChild(node, only);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String text, int offset) {
+        int max = Math.min(label.length(), text.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == text.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Completion {
+        private final String term;
+        private final long weight;
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final String text;
+        private final long priority;
+        // true: term 자체, false: 아직 펼치지 않은 하위 트리
+        private final boolean terminal;
+
+        // 우선순위가 같으면 term을 먼저, 그다음 사전순
+        @Override
+        public int compareTo(Candidate other) {
+            int compared = Long.compare(other.priority, priority);
+            if (compared != 0) {
+                return compared;
+            }
+            if (terminal != other.terminal) {
+                return terminal ? -1 : 1;
+            }
+            return text.compareTo(other.text);
+        }
+    }
+
+    // 자식은 간선 첫 글자로 정렬된 배열에 저장 (노드마다 HashMap을 두지 않는다)
+    private static final class Node {
+        private String label;
+        private long weight;
+        private long maxWeight;
+        private char[] childKeys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            char key = child.label.charAt(0);
+            int index = -Arrays.binarySearch(childKeys, 0, childCount, key) - 1;
+            if (childCount == childKeys.length) {
+                int newLength = Math.max(2, childKeys.length * 2);
+                childKeys = Arrays.copyOf(childKeys, newLength);
+                children = Arrays.copyOf(children, newLength);
+            }
+            System.arraycopy(childKeys, index, childKeys, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            childKeys[index] = key;
+            children[index] = child;
+            childCount++;
+        }
+
+        // 첫 글자가 같은 노드로 교체
+        private void replaceChild(Node previous, Node next) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, previous.label.charAt(0));
+            children[index] = next;
+        }
+
+        private void removeChild(Node child) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, child.label.charAt(0));
+            System.arraycopy(childKeys, index + 1, childKeys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        private void updateMaxWeight() {
+            long max = weight;
+            for (int i = 0; i < childCount; i++) {
+                max = Math.max(max, children[i].maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+-- 작성/수정 시각 컬럼을 문자열(VARCHAR "yyyy-MM-dd HH:mm:ss")에서 DATETIME(6)으로 변경
+-- ddl-auto: update는 기존 컬럼의 타입을 바꾸지 않으므로 MySQL 프로필로 배포하기 전에 한 번 직접 실행한다.
+-- (H2 메모리 DB는 매번 새로 만들어지므로 필요 없음)
+
+-- 1. 변환할 수 없는 값이 있는지 먼저 확인 (0건이어야 한다)
+SELECT 'board' AS table_name, COUNT(*) AS invalid_rows FROM board
+WHERE STR_TO_DATE(created_at, '%Y-%m-%d %H:%i:%s') IS NULL OR STR_TO_DATE(modified_at, '%Y-%m-%d %H:%i:%s') IS NULL
+UNION ALL
+SELECT 'posts', COUNT(*) FROM posts
+WHERE STR_TO_DATE(created_at, '%Y-%m-%d %H:%i:%s') IS NULL OR STR_TO_DATE(modified_at, '%Y-%m-%d %H:%i:%s') IS NULL
+UNION ALL
+SELECT 'users', COUNT(*) FROM users
+WHERE STR_TO_DATE(created_at, '%Y-%m-%d %H:%i:%s') IS NULL OR STR_TO_DATE(modified_at, '%Y-%m-%d %H:%i:%s') IS NULL
+UNION ALL
+SELECT 'refresh_token', COUNT(*) FROM refresh_token
+WHERE STR_TO_DATE(created_at, '%Y-%m-%d %H:%i:%s') IS NULL OR STR_TO_DATE(modified_at, '%Y-%m-%d %H:%i:%s') IS NULL;
+
+-- 2. 타입 변경. MySQL이 'yyyy-MM-dd HH:mm:ss' 문자열을 그대로 DATETIME으로 변환하고,
+--    board.created_at 인덱스도 새 타입으로 다시 만든다. (테이블 복사 방식이므로 쓰기가 적은 시간에 실행)
+ALTER TABLE board
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY modified_at DATETIME(6) NOT NULL;
+
+ALTER TABLE posts
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY modified_at DATETIME(6) NOT NULL;
+
+ALTER TABLE users
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY modified_at DATETIME(6) NOT NULL;
+
+ALTER TABLE refresh_token
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY modified_at DATETIME(6) NOT NULL;
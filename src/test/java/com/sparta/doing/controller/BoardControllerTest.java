@@ -0,0 +1,85 @@
+package com.sparta.doing.controller;
+
+import com.sparta.doing.controller.requestdto.SignUpDto;
+import com.sparta.doing.controller.responsedto.TrendingBoardResponseDto;
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.UserRepository;
+import com.sparta.doing.service.TrendingBoardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardControllerTest {
+    private static final String BOARD_TITLE = "ETag 테스트";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TrendingBoardService trendingBoardService;
+
+    private UserEntity user;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString().substring(0, 12);
+        user = userRepository.save(UserEntity.of(SignUpDto.builder()
+                .username(name)
+                .password("password")
+                .email(name + "@doing.com")
+                .nickname(name)
+                .build(), NoOpPasswordEncoder.getInstance()));
+        Board board = Board.builder()
+                .boardTitle(BOARD_TITLE)
+                .authorName(user.getNickname())
+                .boardContent("내용")
+                .build();
+        board.mapToUserEntity(user);
+        boardId = boardRepository.save(board).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 유저 삭제 시 게시판도 함께 삭제된다.
+        userRepository.delete(user);
+    }
+
+    @Test
+    void If_None_Match가_현재_ETag와_같으면_304를_반환한다() throws Exception {
+        String eTag = mockMvc.perform(get("/boards/{boardId}", boardId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/boards/{boardId}", boardId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 본문 없이 조회한 304 요청이 앞서 저장된 제목을 지우지 않는다.
+        trendingBoardService.applyPendingScores();
+        assertThat(trendingBoardService.getTrending(TrendingBoardService.TOP_K))
+                .filteredOn(trending -> boardId.equals(trending.getId()))
+                .extracting(TrendingBoardResponseDto::getBoardTitle)
+                .containsExactly(BOARD_TITLE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.doing.controller;
+
+import com.sparta.doing.controller.requestdto.LoginDto;
+import com.sparta.doing.controller.requestdto.SignUpDto;
+import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.exception.ExceptionCode;
+import com.sparta.doing.repository.UserRepository;
+import com.sparta.doing.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerTest {
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString().substring(0, 12);
+        user = userRepository.save(UserEntity.of(SignUpDto.builder()
+                .username(name)
+                .password(PASSWORD)
+                .email(name + "@doing.com")
+                .nickname(name)
+                .build(), passwordEncoder));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void 로그아웃한_액세스_토큰은_REVOKED_TOKEN으로_거부된다() throws Exception {
+        String accessToken = userService.login(LoginDto.builder()
+                        .username(user.getUsername())
+                        .password(PASSWORD)
+                        .build())
+                .get(30, TimeUnit.SECONDS)
+                .getAccessToken();
+        String authorization = "Bearer " + accessToken;
+
+        mockMvc.perform(get("/users/mypage").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/logout").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/mypage").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(ExceptionCode.REVOKED_TOKEN.getCode()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.sparta.doing.repository;
+
+import com.sparta.doing.config.QuerydslConfig;
+import com.sparta.doing.controller.requestdto.PostRequestDto;
+import com.sparta.doing.controller.requestdto.SignUpDto;
+import com.sparta.doing.controller.responsedto.BoardListResponseDto;
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.entity.PostEntity;
+import com.sparta.doing.entity.UserEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static com.sparta.doing.entity.QBoard.board;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QuerydslConfig.class)
+class BoardRepositoryTest {
+    private static final int BOARD_COUNT = 10;
+    private static final int POSTS_PER_BOARD = 3;
+
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = userRepository.save(UserEntity.of(SignUpDto.builder()
+                .username("tester")
+                .password("password")
+                .email("tester@doing.com")
+                .nickname("테스터")
+                .build(), NoOpPasswordEncoder.getInstance()));
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            Board board = Board.builder()
+                    .boardTitle("게시판 " + i)
+                    .authorName(user.getNickname())
+                    .boardContent("내용 " + i)
+                    .boardHashtag("#태그" + i)
+                    .build();
+            board.mapToUserEntity(user);
+            for (int j = 0; j < POSTS_PER_BOARD; j++) {
+                board.mapToPost(PostEntity.of(PostRequestDto.builder().content("게시글 " + j).build(), board));
+            }
+            boardRepository.save(board);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 목록_조회는_게시글과_유저를_따로_조회하지_않는다() {
+        Page<BoardListResponseDto> page = boardRepository.findListPage(null,
+                PageRequest.of(0, 8, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(8);
+        assertThat(page.getTotalElements()).isEqualTo(BOARD_COUNT);
+        assertThat(page.getContent()).allSatisfy(board ->
+                assertThat(board.getNickname()).isEqualTo("테스터"));
+        // 목록 SELECT 1번 + COUNT 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void 마지막_페이지는_COUNT_쿼리를_생략한다() {
+        Page<BoardListResponseDto> page = boardRepository.findListPage(null,
+                PageRequest.of(1, 8, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(BOARD_COUNT - 8);
+        assertThat(page.getTotalElements()).isEqualTo(BOARD_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 조건_조합이_같으면_값이_달라도_쿼리_플랜을_재사용한다() {
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        boardRepository.findListPage(
+                board.boardTitle.containsIgnoreCase("게시판 1").and(board.createdAt.goe(weekAgo)),
+                PageRequest.of(0, 8, Sort.by(Sort.Direction.DESC, "createdAt")));
+        long missCount = statistics.getQueryPlanCacheMissCount();
+
+        Page<BoardListResponseDto> page = boardRepository.findListPage(
+                board.boardTitle.containsIgnoreCase("게시판 2").and(board.createdAt.goe(weekAgo.plusDays(1))),
+                PageRequest.of(0, 8, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).extracting(BoardListResponseDto::getBoardTitle).containsExactly("게시판 2");
+        assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(missCount);
+        assertThat(statistics.getQueryPlanCacheHitCount()).isPositive();
+    }
+}
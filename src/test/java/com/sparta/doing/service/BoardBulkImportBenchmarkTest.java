@@ -0,0 +1,76 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.controller.requestdto.SignUpDto;
+import com.sparta.doing.controller.responsedto.BulkImportResponseDto;
+import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 일괄 등록 처리량 측정 (기본 빌드에서는 실행하지 않음)
+ * H2:    ./gradlew test --tests '*BoardBulkImportBenchmarkTest' -Dbenchmark=true
+ * MySQL: ./gradlew test --tests '*BoardBulkImportBenchmarkTest' -Dbenchmark=true -Dspring.profiles.active=mysql
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info",
+        "logging.level.com.sparta.doing=info"
+})
+class BoardBulkImportBenchmarkTest {
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 50_000);
+
+    @Autowired
+    private BoardBulkImportService boardBulkImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void 일괄_등록_처리량() throws Exception {
+        String name = UUID.randomUUID().toString().substring(0, 12);
+        UserEntity user = userRepository.save(UserEntity.of(SignUpDto.builder()
+                .username(name)
+                .password("password")
+                .email(name + "@doing.com")
+                .nickname(name)
+                .build(), NoOpPasswordEncoder.getInstance()));
+
+        boardBulkImportService.importBoards(ndjson(WARMUP_ROWS), user.getId());
+        BulkImportResponseDto result = boardBulkImportService.importBoards(ndjson(ROWS), user.getId());
+
+        log.info("[benchmark] profiles={} rows={} elapsed={}ms rows/sec={}",
+                Arrays.toString(environment.getActiveProfiles()), result.getImportedCount(),
+                result.getElapsedMillis(), String.format("%.0f", result.getRowsPerSecond()));
+        assertThat(result.getImportedCount()).isEqualTo(ROWS);
+        assertThat(result.getFailedCount()).isZero();
+    }
+
+    private static ByteArrayInputStream ndjson(int rows) {
+        StringBuilder builder = new StringBuilder(rows * 96);
+        for (int i = 0; i < rows; i++) {
+            builder.append("{\"boardTitle\":\"벤치마크 게시판 ").append(i)
+                    .append("\",\"boardContent\":\"일괄 등록 내용 ").append(i)
+                    .append("\",\"boardHashtag\":\"#bench #tag").append(i % 100).append("\"}\n");
+        }
+        return new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
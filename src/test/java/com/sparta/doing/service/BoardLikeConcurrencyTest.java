@@ -0,0 +1,129 @@
+package com.sparta.doing.service;
+
+import com.sparta.doing.controller.requestdto.SignUpDto;
+import com.sparta.doing.entity.Board;
+import com.sparta.doing.entity.UserEntity;
+import com.sparta.doing.repository.BoardLikeRepository;
+import com.sparta.doing.repository.BoardRepository;
+import com.sparta.doing.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BoardLikeConcurrencyTest {
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardLikeRepository boardLikeRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<UserEntity> users = new ArrayList<>();
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < THREAD_COUNT * 2; i++) {
+            users.add(createUser());
+        }
+        Board board = Board.builder()
+                .boardTitle("좋아요 테스트")
+                .authorName(users.get(0).getNickname())
+                .boardContent("내용")
+                .build();
+        board.mapToUserEntity(users.get(0));
+        boardId = boardRepository.save(board).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 유저 삭제 시 게시판, 좋아요도 함께 삭제된다.
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    void 서로_다른_유저의_동시_좋아요는_모두_반영된다() throws Exception {
+        List<Boolean> results = runConcurrently(users.size(), i -> boardService.boardLike(boardId, users.get(i).getId()));
+
+        assertThat(results).containsOnly(true);
+        assertThat(boardLikeRepository.countByBoardId(boardId)).isEqualTo(users.size());
+        assertThat(likeCount()).isEqualTo(users.size());
+    }
+
+    @Test
+    void 같은_유저의_동시_토글은_중복이나_누락_없이_반영된다() throws Exception {
+        Long userId = users.get(1).getId();
+
+        List<Boolean> results = runConcurrently(THREAD_COUNT, i -> boardService.boardLike(boardId, userId));
+
+        // 토글이 한 번씩 차례대로 적용되므로 추가/취소가 절반씩, 짝수 번 토글 후에는 좋아요가 없다.
+        assertThat(results).filteredOn(liked -> liked).hasSize(THREAD_COUNT / 2);
+        assertThat(boardLikeRepository.countByBoardId(boardId)).isZero();
+        assertThat(likeCount()).isZero();
+    }
+
+    private UserEntity createUser() {
+        String name = UUID.randomUUID().toString().substring(0, 12);
+        return userRepository.save(UserEntity.of(SignUpDto.builder()
+                .username(name)
+                .password("password")
+                .email(name + "@doing.com")
+                .nickname(name)
+                .build(), NoOpPasswordEncoder.getInstance()));
+    }
+
+    private int likeCount() {
+        return boardRepository.findById(boardId).orElseThrow().getBoardLikeCount();
+    }
+
+    private List<Boolean> runConcurrently(int count, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                Callable<Boolean> callable = () -> {
+                    start.await();
+                    return task.run(index);
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        boolean run(int index);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.doing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdStripesTest {
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final int ID_COUNT = 64_000;
+
+    @Test
+    void 시퀀스가_0인_Snowflake_id도_모든_구간에_고르게_나뉜다() {
+        // 노드 0, 밀리초마다 id 1개: 하위 12비트가 모두 0
+        int[] counts = new int[STRIPES];
+        long firstTimestamp = System.currentTimeMillis() - SnowflakeIdGenerator.EPOCH_MILLIS;
+        for (int i = 0; i < ID_COUNT; i++) {
+            long id = (firstTimestamp + i) << (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+            counts[IdStripes.of(id, STRIPE_BITS)]++;
+        }
+
+        assertEvenlySpread(counts);
+    }
+
+    @Test
+    void 생성기가_연속으로_만든_id도_모든_구간에_고르게_나뉜다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+        int[] counts = new int[STRIPES];
+        for (int i = 0; i < ID_COUNT; i++) {
+            counts[IdStripes.of(generator.nextId(), STRIPE_BITS)]++;
+        }
+
+        assertEvenlySpread(counts);
+    }
+
+    // 평균 1000개, 모든 구간이 평균의 절반 ~ 2배 사이
+    private static void assertEvenlySpread(int[] counts) {
+        int average = ID_COUNT / STRIPES;
+        assertThat(Arrays.stream(counts).min().orElseThrow()).isGreaterThan(average / 2);
+        assertThat(Arrays.stream(counts).max().orElseThrow()).isLessThan(average * 2);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.doing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedRadixTrieTest {
+    private static final int OPERATION_COUNT = 200_000;
+    // 글자 종류를 줄여서 간선 분할/합치기가 자주 일어나게 한다.
+    private static final String ALPHABET = "abc";
+    private static final int MAX_TERM_LENGTH = 6;
+    private static final int CHECK_INTERVAL = 1_000;
+    private static final int LIMIT = 5;
+
+    @Test
+    void 무작위_증감_후에도_단순_Map과_같은_결과를_낸다() {
+        Random random = new Random(42);
+        WeightedRadixTrie trie = new WeightedRadixTrie();
+        Map<String, Long> expected = new HashMap<>();
+
+        for (int i = 1; i <= OPERATION_COUNT; i++) {
+            String term = randomText(random, 1, MAX_TERM_LENGTH);
+            // 증가를 조금 더 많이 해서 term이 쌓이게 한다.
+            long delta = random.nextInt(7) - 2;
+            trie.add(term, delta);
+            addExpected(expected, term, delta);
+
+            assertThat(trie.weight(term)).as("weight(%s)", term).isEqualTo(expected.getOrDefault(term, 0L));
+            if (i % CHECK_INTERVAL == 0) {
+                assertThat(trie.size()).isEqualTo(expected.size());
+                assertCompletions(trie, expected, "");
+                for (int j = 0; j < 10; j++) {
+                    assertCompletions(trie, expected, randomText(random, 1, MAX_TERM_LENGTH));
+                }
+            }
+        }
+
+        // 모두 지우면 빈 트라이가 된다.
+        new HashMap<>(expected).forEach((term, weight) -> trie.add(term, -weight));
+        assertThat(trie.size()).isZero();
+        assertThat(trie.complete("", LIMIT)).isEmpty();
+    }
+
+    // 가중치가 같은 term끼리의 순서는 정하지 않으므로, 가중치 순서와 각 term의 가중치만 비교한다.
+    private static void assertCompletions(WeightedRadixTrie trie, Map<String, Long> expected, String prefix) {
+        List<WeightedRadixTrie.Completion> completions = trie.complete(prefix, LIMIT);
+        List<Long> expectedWeights = expected.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getValue)
+                .sorted(Comparator.reverseOrder())
+                .limit(LIMIT)
+                .collect(Collectors.toList());
+
+        assertThat(completions).extracting(WeightedRadixTrie.Completion::getWeight)
+                .as("prefix: %s", prefix)
+                .containsExactlyElementsOf(expectedWeights);
+        for (WeightedRadixTrie.Completion completion : completions) {
+            assertThat(completion.getTerm()).startsWith(prefix);
+            assertThat(expected.get(completion.getTerm())).isEqualTo(completion.getWeight());
+        }
+        assertThat(new HashSet<>(completions.stream()
+                .map(WeightedRadixTrie.Completion::getTerm)
+                .collect(Collectors.toList()))).hasSize(completions.size());
+    }
+
+    private static void addExpected(Map<String, Long> expected, String term, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        long weight = Math.max(0, expected.getOrDefault(term, 0L) + delta);
+        if (weight == 0) {
+            expected.remove(term);
+        } else {
+            expected.put(term, weight);
+        }
+    }
+
+    private static String randomText(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}